@@ -0,0 +1,157 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.constants.SecurityConstants;
+import com.yoganavi.gateway.logging.AccessLogWriter;
+import com.yoganavi.gateway.ratelimit.RateLimitStore;
+import com.yoganavi.gateway.revocation.RevocationFeed;
+import com.yoganavi.gateway.revocation.RevocationList;
+import com.yoganavi.gateway.slo.SloTracker;
+import com.yoganavi.gateway.util.JwtUtil;
+import com.yoganavi.gateway.util.JwtUtilBenchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 필터 체인 비용
+ * <p>
+ * 업스트림 호출은 200 을 설정하고 바로 끝나는 터미널 필터로 대체하므로 게이트웨이 자체 오버헤드만 측정된다.
+ * - fullChain: 보호된 라우트의 전체 필터 (메트릭, 접근 로그, 인증, 요청 한도)
+ * - metricOnly: 메트릭 기록만
+ * - unauthorized: 만료 토큰에 대한 401 JSON 응답 생성
+ * - identityHeaders: 신원 헤더 주입
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FilterChainBenchmark {
+
+    private static final GatewayFilter UPSTREAM = (exchange, chain) -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().setComplete();
+    };
+
+    private final Route route = Route.async()
+        .id("live-lecture-service")
+        .uri("lb://live-lecture-service")
+        .predicate(exchange -> true)
+        .build();
+
+    private AccessLogWriter accessLogWriter;
+    private List<GatewayFilter> fullChain;
+    private List<GatewayFilter> metricChain;
+    private String validAuthorization;
+    private String expiredAuthorization;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = JwtUtilBenchmark.newJwtUtil();
+        accessLogWriter = new AccessLogWriter(meterRegistry, 8192);
+        accessLogWriter.start();
+
+        GatewayFilter metric = new MetricFilter(meterRegistry,
+            new SloTracker(meterRegistry, Duration.ofMinutes(5), Duration.ofHours(1), 14.4), 200)
+            .apply(new Object());
+        GatewayFilter logging = new RequestLoggingFilter(accessLogWriter, 0.0, List.of(),
+            List.of("Authorization", "Cookie")).apply(new Object());
+        RevocationList revocationList = new RevocationList(
+            new StaticListableBeanFactory().getBeanProvider(RevocationFeed.class), meterRegistry, 100_000,
+            Duration.ofMinutes(1), TimeUnit.HOURS.toMillis(1));
+        GatewayFilter auth = new JwtAuthenticationFilter(jwtUtil, revocationList)
+            .apply(new JwtAuthenticationFilter.Config());
+        // 벤치마크 중 429 가 나지 않도록 충분히 큰 한도
+        GatewayFilter rateLimit = new RateLimitFilter(
+            new StaticListableBeanFactory().getBeanProvider(RateLimitStore.class), meterRegistry, 100_000, false)
+            .apply(new RateLimitFilter.Config().limit(1_000_000_000L, 1_000_000_000d));
+
+        fullChain = sorted(metric, logging, auth, rateLimit, UPSTREAM);
+        metricChain = sorted(metric, UPSTREAM);
+
+        validAuthorization = "Bearer " + JwtUtilBenchmark.token(JwtUtilBenchmark.SECRET, 42, "TEACHER",
+            TimeUnit.HOURS.toMillis(1));
+        expiredAuthorization = "Bearer " + JwtUtilBenchmark.token(JwtUtilBenchmark.SECRET, 42, "TEACHER",
+            -TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        accessLogWriter.stop();
+    }
+
+    @Benchmark
+    public ServerWebExchange fullChain() {
+        return run(fullChain, newExchange(validAuthorization));
+    }
+
+    @Benchmark
+    public ServerWebExchange metricOnly() {
+        return run(metricChain, newExchange(validAuthorization));
+    }
+
+    @Benchmark
+    public ServerWebExchange unauthorized() {
+        return run(fullChain, newExchange(expiredAuthorization));
+    }
+
+    @Benchmark
+    public ServerWebExchange identityHeaders() {
+        return JwtAuthenticationFilter.withIdentityHeaders(newExchange(validAuthorization), 42, "TEACHER");
+    }
+
+    private MockServerWebExchange newExchange(String authorization) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+            .get("/live-lecture/list")
+            .header(SecurityConstants.JWT_HEADER, authorization)
+            .header("User-Agent", "jmh"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static ServerWebExchange run(List<GatewayFilter> filters, ServerWebExchange exchange) {
+        new Chain(filters, 0).filter(exchange).block();
+        return exchange;
+    }
+
+    // 게이트웨이와 같은 방식으로 Ordered 필터를 순서대로 정렬 (순서가 없는 필터는 맨 뒤)
+    private static List<GatewayFilter> sorted(GatewayFilter... filters) {
+        List<GatewayFilter> list = new ArrayList<>(List.of(filters));
+        list.sort(Comparator.comparingInt(filter ->
+            filter instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE));
+        return list;
+    }
+
+    private record Chain(List<GatewayFilter> filters, int index) implements GatewayFilterChain {
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            if (index >= filters.size()) {
+                return Mono.empty();
+            }
+            return filters.get(index).filter(exchange, new Chain(filters, index + 1));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.yoganavi.gateway.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 비용
+ * <p>
+ * - verifyValid: principal 캐시에 있는 정상 토큰 (대부분의 요청)
+ * - parseValid: 캐시 없이 서명 검증 + 클레임 추출
+ * - verifyExpired / verifyForged: 만료, 위조 토큰 (캐시되지 않으므로 매번 파싱)
+ * - verifyEs256 / parseEs256: JWKS 파일의 ES256 공개 키로 검증하는 경우의 캐시 적중, 서명 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    public static final String SECRET = "benchmark-secret-key-for-hs256-signing-0123456789";
+    private static final String KID = "benchmark-es256";
+
+    private JwtUtil jwtUtil;
+    private String validToken;
+    private String expiredToken;
+    private String forgedToken;
+    private JwtUtil jwksJwtUtil;
+    private String es256Token;
+
+    @Setup
+    public void setUp() throws IOException {
+        jwtUtil = newJwtUtil();
+        validToken = token(SECRET, 42, "TEACHER", TimeUnit.HOURS.toMillis(1));
+        expiredToken = token(SECRET, 42, "TEACHER", -TimeUnit.MINUTES.toMillis(1));
+        forgedToken = token("forged-secret-key-for-hs256-signing-9876543210xyz", 42, "TEACHER",
+            TimeUnit.HOURS.toMillis(1));
+
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        jwksJwtUtil = newJwtUtil(newJwksKeyLocator(keyPair));
+        es256Token = Jwts.builder()
+            .header().keyId(KID).and()
+            .claim("id", 42)
+            .claim("role", "TEACHER")
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+            .compact();
+    }
+
+    @Benchmark
+    public JwtUtil.TokenPrincipal verifyValid() {
+        return jwtUtil.verify(validToken);
+    }
+
+    @Benchmark
+    public Object parseValid() {
+        return jwtUtil.validateToken(validToken);
+    }
+
+    @Benchmark
+    public JwtUtil.TokenPrincipal verifyExpired() {
+        return jwtUtil.verify(expiredToken);
+    }
+
+    @Benchmark
+    public JwtUtil.TokenPrincipal verifyForged() {
+        return jwtUtil.verify(forgedToken);
+    }
+
+    @Benchmark
+    public JwtUtil.TokenPrincipal verifyEs256() {
+        return jwksJwtUtil.verify(es256Token);
+    }
+
+    @Benchmark
+    public Object parseEs256() {
+        return jwksJwtUtil.validateToken(es256Token);
+    }
+
+    /**
+     * 스프링 컨텍스트 없이 설정값을 주입한 JwtUtil
+     */
+    public static JwtUtil newJwtUtil() {
+        return newJwtUtil(null);
+    }
+
+    /**
+     * @param jwksKeyLocator null 이면 HMAC 만 사용
+     */
+    public static JwtUtil newJwtUtil(JwksKeyLocator jwksKeyLocator) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwksKeyLocator", jwksKeyLocator);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", TimeUnit.DAYS.toMillis(14));
+        ReflectionTestUtils.setField(jwtUtil, "principalCacheMaxSize", 10_000);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    /**
+     * 공개 키 하나를 담은 임시 JWKS 파일을 읽은 키 로케이터
+     */
+    private static JwksKeyLocator newJwksKeyLocator(KeyPair keyPair) throws IOException {
+        String jwk = Jwks.json(Jwks.builder().key((ECPublicKey) keyPair.getPublic()).id(KID).build());
+        Path file = Files.createTempFile("jwks", ".json");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "{\"keys\":[" + jwk + "]}");
+
+        JwksKeyLocator locator = new JwksKeyLocator(file.toUri().toString(), Duration.ofHours(1),
+            Duration.ofMinutes(1), Duration.ofSeconds(3), new DefaultResourceLoader(), WebClient.create(),
+            new SimpleMeterRegistry());
+        locator.start();
+        return locator;
+    }
+
+    public static String token(String secret, int userId, String role, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+            .claim("id", userId)
+            .claim("role", role)
+            .issuedAt(new Date(now))
+            .expiration(new Date(now + expiresInMillis))
+            .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+}
@@ -0,0 +1,125 @@
+package com.yoganavi.gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 클라이언트로 나가는 응답 본문을 그대로 흘려보내면서 byte[] 로 복사해 두는 응답 데코레이터
+ * <p>
+ * 본문이 maxBytes 를 넘으면 복사를 중단하고 onCaptured 대신 onSkipped 를 호출한다.
+ * 캡처 여부는 본문 쓰기 시작 시점(상태 코드와 헤더가 확정된 뒤)에 판단하고, 그 시점의 헤더를 복사해
+ * 본문과 함께 넘긴다. 바깥쪽 데코레이터(응답 압축 등)가 이후에 바꾸는 헤더는 포함되지 않는다.
+ * onCaptured 와 onSkipped 중 하나는 최대 한 번만 호출된다.
+ */
+public class BodyCapturingResponse extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Predicate<ServerHttpResponse> capturable;
+    private final BiConsumer<HttpHeaders, byte[]> onCaptured;
+    private final Runnable onSkipped;
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    public BodyCapturingResponse(ServerHttpResponse delegate, int maxBytes,
+                                 Predicate<ServerHttpResponse> capturable, BiConsumer<HttpHeaders, byte[]> onCaptured) {
+        this(delegate, maxBytes, capturable, onCaptured, () -> {
+        });
+    }
+
+    public BodyCapturingResponse(ServerHttpResponse delegate, int maxBytes,
+                                 Predicate<ServerHttpResponse> capturable, BiConsumer<HttpHeaders, byte[]> onCaptured,
+                                 Runnable onSkipped) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.capturable = capturable;
+        this.onCaptured = onCaptured;
+        this.onSkipped = onSkipped;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength > maxBytes || !capturable.test(getDelegate())) {
+            skip();
+            return super.writeWith(body);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(getHeaders());
+        Capture capture = new Capture(contentLength > 0 ? (int) contentLength : 1024, maxBytes);
+        Flux<DataBuffer> teed = Flux.from(body)
+            .doOnNext(capture::append)
+            .doOnComplete(() -> {
+                if (!capture.overflow && done.compareAndSet(false, true)) {
+                    onCaptured.accept(headers, capture.toByteArray());
+                }
+            })
+            .doFinally(signal -> skip());
+        return super.writeWith(teed);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // 스트리밍 응답은 캡처하지 않음
+        skip();
+        return super.writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        // 본문 없이 끝나는 응답
+        skip();
+        return super.setComplete();
+    }
+
+    private void skip() {
+        if (done.compareAndSet(false, true)) {
+            onSkipped.run();
+        }
+    }
+
+    private static final class Capture {
+
+        private final int maxBytes;
+        private byte[] bytes;
+        private int size;
+        private boolean overflow;
+
+        private Capture(int initialCapacity, int maxBytes) {
+            this.bytes = new byte[Math.min(initialCapacity, maxBytes)];
+            this.maxBytes = maxBytes;
+        }
+
+        private void append(DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (size + length > maxBytes) {
+                overflow = true;
+                bytes = null;
+                return;
+            }
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.min(maxBytes, Math.max(bytes.length * 2, size + length)));
+            }
+            // 읽기 위치를 바꾸지 않고 복사
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), size, length);
+            size += length;
+        }
+
+        private byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+    }
+}
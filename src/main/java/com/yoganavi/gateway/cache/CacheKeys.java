@@ -0,0 +1,65 @@
+package com.yoganavi.gateway.cache;
+
+import com.yoganavi.gateway.filter.JwtAuthenticationFilter;
+import com.yoganavi.gateway.util.JwtUtil;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 응답 캐시 키 생성
+ * <p>
+ * 키는 라우트 id, 공유 범위 값, 경로, 쿼리로 구성된다.
+ */
+public final class CacheKeys {
+
+    /**
+     * 캐시된 응답을 공유하는 범위
+     */
+    public enum Scope {
+        // 모든 사용자가 공유 (카탈로그성 데이터)
+        SHARED,
+        // 같은 role 끼리 공유
+        ROLE,
+        // 회원별로 분리
+        MEMBER
+    }
+
+    private CacheKeys() {
+    }
+
+    /**
+     * @return 범위에 필요한 인증 정보가 없으면 null (캐시하지 않음)
+     */
+    public static String of(ServerWebExchange exchange, Scope scope) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        JwtUtil.TokenPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+
+        String scopeValue;
+        switch (scope) {
+            case ROLE -> {
+                if (principal == null) {
+                    return null;
+                }
+                scopeValue = "r:" + principal.role();
+            }
+            case MEMBER -> {
+                if (principal == null) {
+                    return null;
+                }
+                scopeValue = "m:" + principal.userId();
+            }
+            default -> scopeValue = "*";
+        }
+
+        String query = exchange.getRequest().getURI().getRawQuery();
+        StringBuilder key = new StringBuilder(128)
+            .append(route != null ? route.getId() : "-").append('|')
+            .append(scopeValue).append('|')
+            .append(exchange.getRequest().getPath().value());
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.yoganavi.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 캐시에 저장된 응답
+ *
+ * @param status     응답 상태 코드
+ * @param headers    종단 간(end-to-end) 응답 헤더의 읽기 전용 복사본
+ * @param body       응답 본문
+ * @param storedAt   저장 시각 (epoch millis)
+ * @param freshUntil 이 시각 전까지는 업스트림 확인 없이 사용 가능 (epoch millis)
+ * @param staleUntil 이 시각 이후에는 오류 상황에서도 사용하지 않고 제거 (epoch millis)
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long storedAt,
+                             long freshUntil, long staleUntil) {
+
+    // 다른 클라이언트에게 그대로 전달하면 안 되거나 응답 시점에 다시 계산하는 헤더
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+        "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+        "proxy-authenticate", "proxy-authorization", "content-length", "set-cookie",
+        "age", "x-cache");
+
+    // 헤더와 본문 외 객체 자체의 대략적인 크기
+    private static final int OVERHEAD_BYTES = 256;
+
+    public static CachedResponse of(HttpStatusCode status, HttpHeaders source, byte[] body,
+                                    long storedAt, long freshUntil, long staleUntil) {
+        HttpHeaders headers = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, values);
+            }
+        });
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body,
+            storedAt, freshUntil, staleUntil);
+    }
+
+    /**
+     * 저장된 상태 코드, 헤더, 본문을 응답에 기록
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < freshUntil;
+    }
+
+    public String etag() {
+        return headers.getETag();
+    }
+
+    /**
+     * 메모리 상한 계산에 사용하는 대략적인 크기
+     */
+    public long weight() {
+        long headerBytes = 0;
+        for (var entry : headers.entrySet()) {
+            headerBytes += entry.getKey().length();
+            for (String value : entry.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        return body.length + headerBytes * 2 + OVERHEAD_BYTES;
+    }
+}
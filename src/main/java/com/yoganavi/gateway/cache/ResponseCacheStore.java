@@ -0,0 +1,135 @@
+package com.yoganavi.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메모리 상한이 있는 응답 저장소
+ * <p>
+ * 본문은 byte[] 로 보관하며, Caffeine 의 크기 기반 제거(W-TinyLFU)로 저장된 응답 크기의 합을 maxBytes 이하로 유지한다.
+ * Caffeine 은 무게와 항목 수 상한을 함께 걸 수 없으므로 항목 하나의 무게를 최소 maxBytes / maxEntries 로 매겨
+ * 항목 수도 maxEntries 를 넘지 않게 한다 (작은 응답이 많으면 실제 바이트 합은 maxBytes 보다 작게 유지됨).
+ * 조회/저장은 전역 락 없이 수행되고, 바이트 합은 저장/제거 시점에 누적 갱신한다.
+ * staleUntil 이 지난 항목은 조회 시 또는 만료 시각에 제거한다.
+ * gateway.cache.* 메트릭을 cache 태그(저장소 이름)로 기록한다.
+ */
+public class ResponseCacheStore {
+
+    private final long maxBytes;
+    private final Cache<String, CachedResponse> entries;
+    private final LongAdder currentBytes = new LongAdder();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ResponseCacheStore(String name, long maxBytes, int maxEntries, MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("gateway.cache.hits").tag("cache", name).register(meterRegistry);
+        this.misses = Counter.builder("gateway.cache.misses").tag("cache", name).register(meterRegistry);
+        this.evictions = Counter.builder("gateway.cache.evictions").tag("cache", name).register(meterRegistry);
+
+        long minWeight = Math.max(1L, (maxBytes + maxEntries - 1) / Math.max(1, maxEntries));
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .<String, CachedResponse>weigher((key, response) ->
+                (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, response.weight())))
+            .expireAfter(new StaleExpiry())
+            // 정리 작업을 호출한 스레드에서 바로 수행 (공용 ForkJoinPool 로 넘기지 않음)
+            .executor(Runnable::run)
+            .evictionListener((String key, CachedResponse response, RemovalCause cause) -> {
+                if (response != null) {
+                    currentBytes.add(-response.weight());
+                }
+                if (cause == RemovalCause.SIZE) {
+                    evictions.increment();
+                }
+            })
+            .build();
+
+        Gauge.builder("gateway.cache.size", this, ResponseCacheStore::size)
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("gateway.cache.bytes", this, ResponseCacheStore::bytes)
+            .tag("cache", name)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 응답 조회
+     *
+     * @return 없거나 staleUntil 이 지났으면 null
+     */
+    public CachedResponse get(String key, long nowMillis) {
+        CachedResponse response = entries.getIfPresent(key);
+        if (response != null && nowMillis >= response.staleUntil()) {
+            if (entries.asMap().remove(key, response)) {
+                currentBytes.add(-response.weight());
+            }
+            response = null;
+        }
+        if (response == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return response;
+    }
+
+    public void put(String key, CachedResponse response) {
+        long weight = response.weight();
+        if (weight > maxBytes) {
+            return;
+        }
+        currentBytes.add(weight);
+        CachedResponse previous = entries.asMap().put(key, response);
+        if (previous != null) {
+            currentBytes.add(-previous.weight());
+        }
+    }
+
+    public void remove(String key) {
+        CachedResponse removed = entries.asMap().remove(key);
+        if (removed != null) {
+            currentBytes.add(-removed.weight());
+        }
+    }
+
+    public int size() {
+        return (int) entries.estimatedSize();
+    }
+
+    public long bytes() {
+        return currentBytes.sum();
+    }
+
+    // staleUntil 까지 보관. 다시 저장하면 새 응답 기준으로 다시 계산
+    private static final class StaleExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, response.staleUntil() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
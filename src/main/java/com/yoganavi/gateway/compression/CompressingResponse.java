@@ -0,0 +1,130 @@
+package com.yoganavi.gateway.compression;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 응답 본문을 스트리밍으로 압축하는 응답 데코레이터
+ * <p>
+ * 압축 여부는 본문 쓰기 시작 시점(상태 코드와 헤더가 확정된 뒤)에 판단한다.
+ * - 이미 Content-Encoding 이 있거나, 206/204/304 응답, Cache-Control: no-transform 이면 그대로 전달
+ * - Content-Type 이 허용 목록에 없으면 그대로 전달
+ * - Content-Length 가 minSize 보다 작으면 그대로 전달 (길이를 모르는 응답은 압축)
+ * 압축 대상 Content-Type 이면 클라이언트 지원 여부와 무관하게 Vary: Accept-Encoding 을 붙인다.
+ * 압축한 응답은 Content-Length 를 제거하고 강한 ETag 를 약한 ETag 로 바꾼다.
+ * 스트리밍 응답(writeAndFlushWith)은 압축하지 않는다.
+ */
+public class CompressingResponse extends ServerHttpResponseDecorator {
+
+    private final ContentEncoding encoding;
+    private final long minSize;
+    private final int level;
+    private final List<MimeType> mimeTypes;
+    private final BiConsumer<Long, Long> onCompressed;
+
+    /**
+     * @param encoding     클라이언트와 협상한 압축 방식. null 이면 Vary 헤더만 처리
+     * @param onCompressed 압축이 끝나거나 중단되면 (원본 바이트 수, 압축 후 바이트 수)로 호출
+     */
+    public CompressingResponse(ServerHttpResponse delegate, ContentEncoding encoding, long minSize, int level,
+                               List<MimeType> mimeTypes, BiConsumer<Long, Long> onCompressed) {
+        super(delegate);
+        this.encoding = encoding;
+        this.minSize = minSize;
+        this.level = level;
+        this.mimeTypes = mimeTypes;
+        this.onCompressed = onCompressed;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (!shouldCompress()) {
+            return super.writeWith(body);
+        }
+
+        HttpHeaders headers = getHeaders();
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        String etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) {
+            headers.setETag("W/" + etag);
+        }
+
+        StreamingEncoder encoder = new StreamingEncoder(encoding, level);
+        Flux<DataBuffer> compressed = Flux.<DataBuffer>from(body)
+            .map(buffer -> encoder.encode(buffer, bufferFactory()))
+            .concatWith(Mono.fromSupplier(() -> encoder.finish(bufferFactory())))
+            .filter(buffer -> {
+                if (buffer.readableByteCount() > 0) {
+                    return true;
+                }
+                DataBufferUtils.release(buffer);
+                return false;
+            })
+            .doFinally(signal -> {
+                onCompressed.accept(encoder.bytesRead(), encoder.bytesWritten());
+                encoder.close();
+            });
+        return super.writeWith(compressed);
+    }
+
+    private boolean shouldCompress() {
+        HttpHeaders headers = getHeaders();
+        HttpStatusCode status = getStatusCode();
+        if (status != null && (status.value() == HttpStatus.PARTIAL_CONTENT.value()
+            || status.value() == HttpStatus.NO_CONTENT.value()
+            || status.value() == HttpStatus.NOT_MODIFIED.value()
+            || status.is1xxInformational())) {
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING) || headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && cacheControl.contains("no-transform")) {
+            return false;
+        }
+        if (!isCompressible(headers)) {
+            return false;
+        }
+
+        // 여기부터는 압축 가능한 표현이므로 클라이언트 지원 여부에 따라 응답이 달라짐
+        if (headers.getVary().stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        long contentLength = headers.getContentLength();
+        return encoding != null && (contentLength < 0 || contentLength >= minSize);
+    }
+
+    private boolean isCompressible(HttpHeaders headers) {
+        MediaType contentType;
+        try {
+            contentType = headers.getContentType();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (contentType == null) {
+            return false;
+        }
+        for (MimeType mimeType : mimeTypes) {
+            if (mimeType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.yoganavi.gateway.compression;
+
+import java.util.List;
+
+/**
+ * 게이트웨이가 적용하는 응답 압축 방식
+ */
+public enum ContentEncoding {
+
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Accept-Encoding 헤더로 압축 방식 선택. q 값이 같으면 gzip 우선
+     *
+     * @return 허용된 방식이 없으면 null
+     */
+    public static ContentEncoding negotiate(List<String> acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (String header : acceptEncoding) {
+            for (String item : header.split(",")) {
+                int semicolon = item.indexOf(';');
+                String coding = (semicolon < 0 ? item : item.substring(0, semicolon)).trim().toLowerCase();
+                double q = semicolon < 0 ? 1.0 : qualityOf(item.substring(semicolon + 1));
+                switch (coding) {
+                    case "gzip", "x-gzip" -> gzip = Math.max(gzip, q);
+                    case "deflate" -> deflate = Math.max(deflate, q);
+                    case "*" -> any = Math.max(any, q);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        // 명시되지 않은 방식은 * 의 q 값을 따름
+        if (gzip < 0) {
+            gzip = any;
+        }
+        if (deflate < 0) {
+            deflate = any;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? GZIP : DEFLATE;
+    }
+
+    private static double qualityOf(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
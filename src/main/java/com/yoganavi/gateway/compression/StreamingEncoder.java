@@ -0,0 +1,123 @@
+package com.yoganavi.gateway.compression;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * DataBuffer 단위로 입력을 받아 바로 압축 결과를 내보내는 인코더
+ * <p>
+ * 본문 전체를 모으지 않으므로 응답당 메모리는 Deflater 내부 상태와 출력 버퍼 하나로 일정하다.
+ * gzip 은 헤더와 CRC32/길이 trailer 를 직접 붙이고, deflate 는 zlib 형식(RFC 1950)으로 내보낸다.
+ * 취소와 완료가 다른 스레드에서 겹칠 수 있으므로 모든 연산은 인스턴스 단위로 동기화하고,
+ * close 이후의 호출은 빈 버퍼를 돌려준다.
+ */
+final class StreamingEncoder {
+
+    private static final byte[] GZIP_HEADER = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private boolean headerWritten;
+    private boolean closed;
+
+    StreamingEncoder(ContentEncoding encoding, int level) {
+        boolean gzip = encoding == ContentEncoding.GZIP;
+        this.deflater = new Deflater(level, gzip);
+        this.crc = gzip ? new CRC32() : null;
+        // gzip 이 아니면 헤더가 없음
+        this.headerWritten = !gzip;
+    }
+
+    /**
+     * 입력 버퍼를 압축하고 해제. Deflater 가 아직 내보낼 것이 없으면 빈 버퍼를 돌려준다
+     */
+    synchronized DataBuffer encode(DataBuffer input, DataBufferFactory factory) {
+        try {
+            DataBuffer output = factory.allocateBuffer(Math.max(64, input.readableByteCount() / 2));
+            if (closed) {
+                return output;
+            }
+            writeHeader(output);
+            try (DataBuffer.ByteBufferIterator iterator = input.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer buffer = iterator.next();
+                    if (crc != null) {
+                        crc.update(buffer.duplicate());
+                    }
+                    deflater.setInput(buffer);
+                    while (!deflater.needsInput()) {
+                        drain(output, Deflater.NO_FLUSH);
+                    }
+                }
+            }
+            return output;
+        } finally {
+            DataBufferUtils.release(input);
+        }
+    }
+
+    /**
+     * 남은 압축 결과와 gzip trailer 를 내보내고 Deflater 해제
+     */
+    synchronized DataBuffer finish(DataBufferFactory factory) {
+        DataBuffer output = factory.allocateBuffer(64);
+        if (closed) {
+            return output;
+        }
+        writeHeader(output);
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(output, Deflater.NO_FLUSH);
+        }
+        if (crc != null) {
+            writeIntLE(output, (int) crc.getValue());
+            writeIntLE(output, (int) deflater.getBytesRead());
+        }
+        return output;
+    }
+
+    /**
+     * Deflater 의 native 메모리 해제. 여러 번 호출해도 됨
+     */
+    synchronized void close() {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+        }
+    }
+
+    synchronized long bytesRead() {
+        return closed ? 0 : deflater.getBytesRead();
+    }
+
+    synchronized long bytesWritten() {
+        return closed ? 0 : deflater.getBytesWritten() + (crc != null ? GZIP_HEADER.length + 8 : 0);
+    }
+
+    private void drain(DataBuffer output, int flush) {
+        int length = deflater.deflate(chunk, 0, chunk.length, flush);
+        if (length > 0) {
+            output.ensureWritable(length);
+            output.write(chunk, 0, length);
+        }
+    }
+
+    private void writeHeader(DataBuffer output) {
+        if (!headerWritten) {
+            output.write(GZIP_HEADER);
+            headerWritten = true;
+        }
+    }
+
+    private static void writeIntLE(DataBuffer output, int value) {
+        output.write((byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24));
+    }
+}
@@ -0,0 +1,132 @@
+package com.yoganavi.gateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 동시 요청 한도
+ * <p>
+ * 오래 관찰한 RTT(기준선)와 최근 RTT 의 비율로 한도를 조절한다.
+ * 최근 RTT 가 기준선보다 길어지면(백엔드 큐가 쌓이기 시작하면) 비율만큼 한도를 줄이고,
+ * 비슷하면 sqrt(limit) 만큼 여유를 더해 조금씩 늘린다 (Vegas 방식의 큐 허용치).
+ * 타임아웃, 5xx 같은 실패는 한도를 backoffRatio 만큼 곱해 줄인다.
+ * 한도에 도달하면 {@link #tryAcquire()} 가 false 를 돌려주므로 호출부에서 바로 거절한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 기준선 RTT 는 최근 RTT 보다 천천히 따라감
+    private static final double LONG_WINDOW_SMOOTHING = 0.01;
+    private static final double SHORT_WINDOW_SMOOTHING = 0.2;
+    // 최근 RTT 가 기준선의 이 배수 안이면 한도를 줄이지 않음
+    private static final double RTT_TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    /**
+     * @param initialLimit 시작 한도
+     * @param minLimit     최소 한도
+     * @param maxLimit     최대 한도
+     * @param smoothing    새 한도를 반영하는 비율 (0 ~ 1)
+     * @param backoffRatio 실패 시 한도에 곱할 비율 (0 ~ 1)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit 은 1 이상, maxLimit 은 minLimit 이상이어야 합니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 처리 중인 요청이 한도보다 적으면 한 자리를 차지
+     *
+     * @return 차지했으면 true, 한도에 도달했으면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 완료. 성공 요청의 RTT 로 한도를 조절한다.
+     *
+     * @param rttNanos 요청 시작부터 완료까지 걸린 시간
+     * @param dropped  타임아웃, 5xx 등 과부하 신호로 볼 실패인지
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        update(rttNanos, dropped, inFlightAtRelease);
+    }
+
+    /**
+     * 샘플 없이 자리만 반납 (클라이언트 취소 등)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped, int inFlightAtRelease) {
+        if (dropped) {
+            // 실패는 완화 없이 바로 반영
+            setEstimatedLimit(estimatedLimit * backoffRatio);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+        } else {
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_SMOOTHING;
+            longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_SMOOTHING;
+        }
+        // 부하가 줄어 최근 RTT 가 더 짧아지면 기준선도 빠르게 따라 내려감
+        if (shortRttNanos < longRttNanos) {
+            longRttNanos = shortRttNanos;
+        }
+
+        // 한도의 절반도 쓰지 않는 상태에서는 RTT 가 좋아도 한도를 늘리지 않음
+        if (inFlightAtRelease * 2 < estimatedLimit) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        setEstimatedLimit(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void setEstimatedLimit(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,26 @@
+package com.yoganavi.gateway.concurrency;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 이벤트 루프 정지와 정지 당시 루프 스레드의 스택 (/actuator/eventloop)
+ */
+@Component
+@Endpoint(id = "eventloop")
+public class EventLoopEndpoint {
+
+    private final EventLoopStallDetector stallDetector;
+
+    public EventLoopEndpoint(EventLoopStallDetector stallDetector) {
+        this.stallDetector = stallDetector;
+    }
+
+    @ReadOperation
+    public List<EventLoopStallDetector.Stall> stalls() {
+        return stallDetector.recentStalls();
+    }
+}
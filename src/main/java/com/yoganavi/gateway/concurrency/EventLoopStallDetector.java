@@ -0,0 +1,202 @@
+package com.yoganavi.gateway.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactor Netty 이벤트 루프 정지 감지
+ * <p>
+ * 감시 스레드가 check-interval 마다 각 이벤트 루프에 빈 작업을 넣고, 그 작업이 stall-threshold 안에 실행되지 않으면
+ * 해당 루프 스레드의 스택을 떠서 정지로 기록한다. 이벤트 루프에는 작업 하나를 넣는 것 외에 부담을 주지 않는다.
+ * 정지 수는 스택에서 찾은 원인 프레임 기준으로 gateway.event-loop.stalls{blocker} 에,
+ * 작업이 실행되기까지 기다린 시간은 gateway.event-loop.delay 에 기록한다.
+ * 최근 정지의 스택은 /actuator/eventloop 에서 볼 수 있다.
+ */
+@Slf4j
+@Component
+public class EventLoopStallDetector {
+
+    private static final int MAX_RECENT = 32;
+    private static final int MAX_BLOCKER_TAGS = 100;
+    private static final int STACK_DEPTH = 40;
+    // 원인 프레임을 찾을 때 건너뛰는 프레임워크 패키지
+    private static final List<String> FRAMEWORK_PREFIXES = List.of(
+        "java.", "javax.", "jdk.", "sun.", "io.netty.", "reactor.");
+
+    /**
+     * @param blockedMillis 감지 시점까지 루프가 작업을 처리하지 못한 시간 (실제 정지 시간의 하한)
+     * @param blocker       스택에서 프레임워크가 아닌 첫 프레임. 없으면 맨 위 프레임
+     */
+    public record Stall(Instant detectedAt, String thread, long blockedMillis, String blocker, List<String> stack) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final long checkIntervalMillis;
+    private final Timer delayTimer;
+    private final Map<String, Counter> stallCounters = new ConcurrentHashMap<>();
+    private final Deque<Stall> recent = new ArrayDeque<>(MAX_RECENT);
+    private final List<Probe> probes = new ArrayList<>();
+    private volatile boolean running;
+    private Thread watchdogThread;
+
+    public EventLoopStallDetector(MeterRegistry meterRegistry,
+                                  @Value("${gateway.event-loop.stall-threshold:100ms}") Duration stallThreshold,
+                                  @Value("${gateway.event-loop.check-interval:20ms}") Duration checkInterval) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = stallThreshold.toNanos();
+        this.checkIntervalMillis = Math.max(1, checkInterval.toMillis());
+        this.delayTimer = Timer.builder("gateway.event-loop.delay")
+            .description("이벤트 루프에 넣은 작업이 실행되기까지 기다린 시간")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        EventLoops.all().forEach(executor -> probes.add(new Probe(executor)));
+
+        running = true;
+        watchdogThread = new Thread(this::watchLoop, "event-loop-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+        log.info("gateway - 이벤트 루프 정지 감지 시작: loops={}, threshold={}ms",
+            probes.size(), TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        watchdogThread.interrupt();
+        watchdogThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 최근 정지 기록 (최신순)
+     */
+    public List<Stall> recentStalls() {
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    private void watchLoop() {
+        while (running) {
+            long now = System.nanoTime();
+            for (Probe probe : probes) {
+                probe.check(now);
+            }
+            try {
+                Thread.sleep(checkIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void report(Thread thread, long blockedNanos) {
+        StackTraceElement[] stack = thread.getStackTrace();
+        String blocker = blockerOf(stack);
+        stallCounter(blocker).increment();
+
+        List<String> frames = Arrays.stream(stack)
+            .limit(STACK_DEPTH)
+            .map(StackTraceElement::toString)
+            .toList();
+        Stall stall = new Stall(Instant.now(), thread.getName(), TimeUnit.NANOSECONDS.toMillis(blockedNanos),
+            blocker, frames);
+        synchronized (recent) {
+            if (recent.size() == MAX_RECENT) {
+                recent.removeLast();
+            }
+            recent.addFirst(stall);
+        }
+        log.warn("gateway - 이벤트 루프 정지: thread={}, blocked>={}ms, blocker={}\n\tat {}",
+            stall.thread(), stall.blockedMillis(), blocker, String.join("\n\tat ", frames));
+    }
+
+    private static String blockerOf(StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return "unknown";
+        }
+        StackTraceElement blocker = Arrays.stream(stack)
+            .filter(frame -> FRAMEWORK_PREFIXES.stream().noneMatch(frame.getClassName()::startsWith))
+            .findFirst()
+            .orElse(stack[0]);
+        String className = blocker.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + blocker.getMethodName();
+    }
+
+    private Counter stallCounter(String blocker) {
+        // 원인 프레임 종류가 너무 많아지면 OTHER 로 집계
+        String tag = stallCounters.containsKey(blocker) || stallCounters.size() < MAX_BLOCKER_TAGS
+            ? blocker
+            : "OTHER";
+        return stallCounters.computeIfAbsent(tag, t -> Counter.builder("gateway.event-loop.stalls")
+            .description("stall-threshold 보다 오래 작업을 처리하지 못한 이벤트 루프 정지 수")
+            .tag("blocker", t)
+            .register(meterRegistry));
+    }
+
+    /**
+     * 이벤트 루프 하나에 대한 감시 작업. check 는 감시 스레드에서만, run 은 해당 이벤트 루프에서만 호출
+     */
+    private final class Probe implements Runnable {
+
+        private final EventExecutor executor;
+        private volatile Thread thread;
+        private volatile boolean pending;
+        private volatile long submittedAt;
+        private boolean reported;
+
+        private Probe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        private void check(long now) {
+            if (!pending) {
+                reported = false;
+                submittedAt = now;
+                pending = true;
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중인 루프
+                    pending = false;
+                }
+                return;
+            }
+            Thread loopThread = thread;
+            if (!reported && loopThread != null && now - submittedAt > thresholdNanos) {
+                reported = true;
+                report(loopThread, now - submittedAt);
+            }
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            delayTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            pending = false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.yoganavi.gateway.concurrency;
+
+import io.netty.util.concurrent.EventExecutor;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 서버와 HttpClient 가 공유하는 Reactor Netty 전역 이벤트 루프 목록
+ */
+final class EventLoops {
+
+    private EventLoops() {
+    }
+
+    /**
+     * 서버 루프와, 따로 있으면 클라이언트 루프까지 중복 없이 반환
+     */
+    static List<EventExecutor> all() {
+        LoopResources loops = HttpResources.get();
+        Set<EventExecutor> executors = Collections.newSetFromMap(new IdentityHashMap<>());
+        loops.onServer(LoopResources.DEFAULT_NATIVE).forEach(executors::add);
+        loops.onClient(LoopResources.DEFAULT_NATIVE).forEach(executors::add);
+        return List.copyOf(new ArrayList<>(executors));
+    }
+}
@@ -0,0 +1,92 @@
+package com.yoganavi.gateway.concurrency;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * CPU 를 오래 쓰거나 블로킹하는 필터를 이벤트 루프 밖에서 실행하는 스케줄러
+ * <p>
+ * gateway.offload.filters 에 지정한 필터 팩토리(클래스 이름)의 필터만 이 스케줄러에서 구독되고,
+ * 나머지 필터는 그대로 이벤트 루프에서 실행된다. 지정된 필터 뒤의 필터도 다음 I/O 전까지 같은 스레드에서 이어지므로
+ * 체인 앞쪽의 무거운 필터(예: 비대칭 키 서명 검증을 하는 JwtAuthenticationFilter)에만 지정한다.
+ * 스레드 전환 비용이 있으므로 HMAC 검증처럼 수 마이크로초 안에 끝나는 필터는 옮기지 않는 편이 낫다.
+ * VIRTUAL_THREADS 는 Java 21 이상에서만 동작하며, 그 밖에는 BOUNDED_ELASTIC 으로 대체한다.
+ */
+@Slf4j
+@Component
+public class OffloadScheduler {
+
+    public enum Type {
+        BOUNDED_ELASTIC,
+        VIRTUAL_THREADS
+    }
+
+    private static final String NAME = "gateway-offload";
+
+    private final Scheduler scheduler;
+    private final Set<String> filters;
+
+    public OffloadScheduler(@Value("${gateway.offload.type:BOUNDED_ELASTIC}") Type type,
+                            @Value("${gateway.offload.thread-cap:0}") int threadCap,
+                            @Value("${gateway.offload.queued-task-cap:100000}") int queuedTaskCap,
+                            @Value("${gateway.offload.filters:}") List<String> filters) {
+        Scheduler virtual = type == Type.VIRTUAL_THREADS ? virtualThreadScheduler() : null;
+        this.scheduler = virtual != null
+            ? virtual
+            : Schedulers.newBoundedElastic(threadCap > 0 ? threadCap : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                queuedTaskCap, NAME, 60, true);
+        this.filters = Set.copyOf(filters);
+        if (!this.filters.isEmpty()) {
+            log.info("gateway - 이벤트 루프 밖에서 실행할 필터: {} ({})", this.filters,
+                virtual != null ? Type.VIRTUAL_THREADS : Type.BOUNDED_ELASTIC);
+        }
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * 지정된 필터 팩토리의 필터면 이 스케줄러에서 구독하도록 감쌈. 필터 순서는 유지
+     */
+    public GatewayFilter wrap(String filterName, GatewayFilter filter) {
+        if (!filters.contains(filterName)) {
+            return filter;
+        }
+        int order = filter instanceof Ordered ordered ? ordered.getOrder() : 0;
+        return new OrderedGatewayFilter((exchange, chain) -> Mono.defer(() -> filter.filter(exchange, chain))
+            .subscribeOn(scheduler), order);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+    // Java 17 로 컴파일하므로 가상 스레드 API 는 실행 시점에 찾음
+    private static Scheduler virtualThreadScheduler() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+            return Schedulers.fromExecutorService(executor, NAME);
+        } catch (ReflectiveOperationException e) {
+            log.warn("gateway - 가상 스레드를 사용할 수 없는 런타임 ({}), BOUNDED_ELASTIC 으로 대체",
+                Runtime.version());
+            return null;
+        }
+    }
+}
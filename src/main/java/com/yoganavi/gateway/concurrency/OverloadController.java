@@ -0,0 +1,158 @@
+package com.yoganavi.gateway.concurrency;
+
+import com.yoganavi.gateway.config.OverloadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게이트웨이 과부하 판단과 우선순위별 요청 차단
+ * <p>
+ * 처리 중인 요청 수는 요청마다 바로 반영하고, 이벤트 루프에 쌓인 작업 수와 프로세스 CPU 사용률은 sample-interval 마다 측정한다.
+ * 각 신호를 상한으로 나눈 값 중 가장 큰 값을 부하로 보고, 부하가 우선순위별 shed-at 이상이면 그 우선순위의 요청을 차단한다.
+ * 낮은 우선순위일수록 shed-at 이 낮으므로 부하가 오르면 LOW 부터 차단되고, CRITICAL 은 차단하지 않는다.
+ * 측정한 부하는 오를 때는 바로 반영하고 내릴 때는 천천히 내려 차단이 켜졌다 꺼졌다 반복하지 않게 한다.
+ * 차단 수는 gateway.overload.shed{priority} 에 기록한다.
+ */
+@Slf4j
+public class OverloadController {
+
+    /**
+     * 요청 우선순위. 선언 순서가 낮은 것부터
+     */
+    public enum Priority {
+        LOW,
+        NORMAL,
+        HIGH,
+        // 진행 중인 수업 등 차단하면 안 되는 요청. 부하 계산에는 포함
+        CRITICAL
+    }
+
+    // 측정한 부하가 내려갈 때 새 측정값을 반영하는 비율
+    private static final double DECAY = 0.3;
+
+    private final OverloadProperties properties;
+    private final double[] shedAt = new double[Priority.values().length];
+    private final Map<Priority, Counter> shedCounters = new EnumMap<>(Priority.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+    private List<EventExecutor> eventLoops = List.of();
+    private volatile int pendingTasks;
+    private volatile double sampledLoad;
+    private Disposable sampler;
+
+    public OverloadController(OverloadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (Priority priority : Priority.values()) {
+            Double threshold = properties.getShedAt().get(priority);
+            shedAt[priority.ordinal()] = properties.isEnabled() && priority != Priority.CRITICAL && threshold != null
+                ? threshold
+                : Double.POSITIVE_INFINITY;
+            shedCounters.put(priority, Counter.builder("gateway.overload.shed")
+                .description("과부하로 차단한 요청 수")
+                .tag("priority", priority.name())
+                .register(meterRegistry));
+        }
+        Gauge.builder("gateway.overload.in-flight", inFlight, AtomicInteger::get)
+            .description("게이트웨이 전체에서 처리 중인 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.overload.pending-tasks", this, controller -> controller.pendingTasks)
+            .description("이벤트 루프 전체에 쌓인 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.overload.load", this, OverloadController::load)
+            .description("상한 대비 부하 (1 이면 어느 한 신호가 상한에 도달)")
+            .register(meterRegistry);
+    }
+
+    public void start() {
+        eventLoops = EventLoops.all();
+        sampler = Flux.interval(properties.getSampleInterval(), Schedulers.single())
+            .subscribe(tick -> sample());
+        log.info("gateway - 과부하 감시 시작: enabled={}, shedAt={}", properties.isEnabled(), properties.getShedAt());
+    }
+
+    public void stop() {
+        if (sampler != null) {
+            sampler.dispose();
+        }
+    }
+
+    /**
+     * 라우트 우선순위에 role 별 조정을 적용. CRITICAL 라우트는 그대로 두고, role 로는 HIGH 까지만 올림
+     */
+    public Priority priorityOf(Priority routePriority, String role) {
+        Integer adjustment = role != null ? properties.getRoleAdjustments().get(role) : null;
+        if (adjustment == null || routePriority == Priority.CRITICAL) {
+            return routePriority;
+        }
+        int ordinal = Math.max(Priority.LOW.ordinal(),
+            Math.min(Priority.HIGH.ordinal(), routePriority.ordinal() + adjustment));
+        return Priority.values()[ordinal];
+    }
+
+    /**
+     * 처리 중 요청으로 등록하고 차단 여부 판단. true 면 요청이 끝날 때 {@link #exit()} 를 호출해야 함
+     */
+    public boolean tryEnter(Priority priority) {
+        int current = inFlight.incrementAndGet();
+        double load = Math.max(sampledLoad, (double) current / properties.getMaxInFlight());
+        if (load >= shedAt[priority.ordinal()]) {
+            inFlight.decrementAndGet();
+            shedCounters.get(priority).increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 처리 중 요청으로 등록하지 않고 차단 여부만 판단. 연결 동안 계속 열려 있는 WebSocket, SSE 요청용
+     */
+    public boolean admit(Priority priority) {
+        if (load() >= shedAt[priority.ordinal()]) {
+            shedCounters.get(priority).increment();
+            return false;
+        }
+        return true;
+    }
+
+    public double load() {
+        return Math.max(sampledLoad, (double) inFlight.get() / properties.getMaxInFlight());
+    }
+
+    private void sample() {
+        int pending = 0;
+        for (EventExecutor executor : eventLoops) {
+            if (executor instanceof SingleThreadEventExecutor loop) {
+                pending += loop.pendingTasks();
+            }
+        }
+        pendingTasks = pending;
+
+        double load = (double) pending / properties.getMaxPendingTasks();
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean os) {
+            double cpu = os.getProcessCpuLoad();
+            if (cpu >= 0) {
+                load = Math.max(load, cpu / properties.getMaxCpu());
+            }
+        }
+        double previous = sampledLoad;
+        sampledLoad = load >= previous ? load : previous + (load - previous) * DECAY;
+    }
+}
@@ -0,0 +1,37 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 게이트웨이 응답 저장소 설정
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * fallback 용 마지막 정상 응답 저장소
+     */
+    @Bean
+    public ResponseCacheStore staleResponseStore(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.stale-cache.max-size:32MB}") DataSize maxSize,
+            @Value("${gateway.stale-cache.max-entries:10000}") int maxEntries) {
+        return new ResponseCacheStore("stale", maxSize.toBytes(), maxEntries, meterRegistry);
+    }
+
+    /**
+     * ResponseCacheFilter 용 GET 응답 캐시
+     */
+    @Bean
+    public ResponseCacheStore responseCacheStore(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${gateway.response-cache.max-entries:20000}") int maxEntries) {
+        return new ResponseCacheStore("response", maxSize.toBytes(), maxEntries, meterRegistry);
+    }
+}
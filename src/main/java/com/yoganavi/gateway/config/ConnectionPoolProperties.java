@@ -0,0 +1,72 @@
+package com.yoganavi.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다운스트림 서비스별 커넥션 풀 설정 (gateway.connection-pool)
+ * <p>
+ * services 에 없는 서비스는 defaults 를 사용하고, 서비스별 항목은 지정한 값만 defaults 를 덮어쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.connection-pool")
+public class ConnectionPoolProperties {
+
+    private Pool defaults = Pool.defaults();
+    private Map<String, Pool> services = new LinkedHashMap<>();
+
+    /**
+     * 서비스 id 에 해당하는 설정. 서비스별 값이 없으면 기본값 사용
+     */
+    public Pool forService(String serviceId) {
+        Pool pool = services.get(serviceId);
+        return pool == null ? defaults : pool.withDefaults(defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private Integer maxConnections;
+        private Integer pendingAcquireMaxCount;
+        private Duration pendingAcquireTimeout;
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+        private Duration evictionInterval;
+        private List<HttpProtocol> protocols;
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 200;
+            pool.pendingAcquireMaxCount = 400;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(2);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(5);
+            pool.evictionInterval = Duration.ofSeconds(15);
+            pool.protocols = List.of(HttpProtocol.HTTP11);
+            return pool;
+        }
+
+        Pool withDefaults(Pool defaults) {
+            Pool merged = new Pool();
+            merged.maxConnections = maxConnections != null ? maxConnections : defaults.maxConnections;
+            merged.pendingAcquireMaxCount = pendingAcquireMaxCount != null
+                ? pendingAcquireMaxCount : defaults.pendingAcquireMaxCount;
+            merged.pendingAcquireTimeout = pendingAcquireTimeout != null
+                ? pendingAcquireTimeout : defaults.pendingAcquireTimeout;
+            merged.maxIdleTime = maxIdleTime != null ? maxIdleTime : defaults.maxIdleTime;
+            merged.maxLifeTime = maxLifeTime != null ? maxLifeTime : defaults.maxLifeTime;
+            merged.evictionInterval = evictionInterval != null ? evictionInterval : defaults.evictionInterval;
+            merged.protocols = protocols != null && !protocols.isEmpty() ? protocols : defaults.protocols;
+            return merged;
+        }
+    }
+}
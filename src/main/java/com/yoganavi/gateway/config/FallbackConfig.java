@@ -0,0 +1,21 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.handler.FallbackHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 서킷 브레이커 fallback 엔드포인트 (/fallback/{service})
+ */
+@Configuration
+public class FallbackConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> fallbackRoutes(FallbackHandler fallbackHandler) {
+        return RouterFunctions.route(RequestPredicates.path("/fallback/{service}"), fallbackHandler::handle);
+    }
+}
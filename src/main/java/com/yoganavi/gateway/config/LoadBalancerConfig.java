@@ -0,0 +1,13 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 lb:// 서비스에 기본 라운드 로빈 대신 PeakEwmaLoadBalancer 사용
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
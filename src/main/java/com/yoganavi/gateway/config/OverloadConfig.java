@@ -0,0 +1,20 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.concurrency.OverloadController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 과부하 시 우선순위별 요청 차단 구성. 라우트 우선순위는 routes.yml 의 priority
+ */
+@Configuration
+@EnableConfigurationProperties(OverloadProperties.class)
+public class OverloadConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public OverloadController overloadController(OverloadProperties properties, MeterRegistry meterRegistry) {
+        return new OverloadController(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.concurrency.OverloadController.Priority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 과부하 시 우선순위별 요청 차단 설정 (gateway.overload)
+ * <p>
+ * 부하는 0 이상의 값으로, 각 신호를 상한으로 나눈 값 중 가장 큰 값이다. 1 이면 어느 한 신호가 상한에 도달한 상태.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.overload")
+public class OverloadProperties {
+
+    // false 면 부하만 측정하고 요청은 차단하지 않음
+    private boolean enabled = true;
+
+    // 게이트웨이 전체에서 처리 중인 요청 수 상한
+    private int maxInFlight = 2000;
+
+    // 이벤트 루프 전체에 쌓인 작업 수 상한
+    private int maxPendingTasks = 2000;
+
+    // 프로세스 CPU 사용률 상한 (0.0 ~ 1.0)
+    private double maxCpu = 0.9;
+
+    // 이벤트 루프 큐, CPU 를 측정하는 주기
+    private Duration sampleInterval = Duration.ofMillis(100);
+
+    // 우선순위별로 차단을 시작하는 부하. CRITICAL 은 차단하지 않음
+    private Map<Priority, Double> shedAt = new EnumMap<>(Map.of(
+        Priority.LOW, 0.7,
+        Priority.NORMAL, 0.85,
+        Priority.HIGH, 0.95));
+
+    // 토큰 role 별 우선순위 조정 단계 (예: TEACHER: 1 이면 한 단계 높임). CRITICAL 로는 올리지 않음
+    private Map<String, Integer> roleAdjustments = new LinkedHashMap<>(Map.of("TEACHER", 1));
+}
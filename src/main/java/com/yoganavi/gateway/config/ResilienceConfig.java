@@ -1,6 +1,7 @@
 package com.yoganavi.gateway.config;
 
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
@@ -8,22 +9,23 @@ import org.springframework.cloud.client.circuitbreaker.Customizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 @Slf4j
 public class ResilienceConfig {
 
+    /**
+     * 서킷 브레이커 설정은 application-*.yml 의 resilience4j.circuitbreaker / timelimiter 를 따름
+     * <p>
+     * 레지스트리에서 인스턴스를 꺼내면 instances 설정이 있으면 그 값을, 없으면 configs.default 값을 사용한다.
+     * (이전에는 여기서 설정을 하드코딩해 프로필별 slidingWindowSize 등이 무시되었음)
+     */
     @Bean
-    public Customizer<ReactiveResilience4JCircuitBreakerFactory> defaultCustomizer() {
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> defaultCustomizer(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            TimeLimiterRegistry timeLimiterRegistry) {
         return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
-            .circuitBreakerConfig(CircuitBreakerConfig.custom()
-                .slidingWindowSize(10) // 상태를 결정하는데 사용할 최근 호출 수
-                .minimumNumberOfCalls(5) // Circuit Breaker가 작동하기 위한 최소 호출 수
-                .permittedNumberOfCallsInHalfOpenState(3) // Half-Open 상태에서 허용할 호출 수
-                .waitDurationInOpenState(Duration.ofSeconds(5)) // Circuit이 Open 상태를 유지하는 시간
-                .failureRateThreshold(50.0f) // Circuit을 Open 상태로 전환하는 실패율 임계값(%)
-                .build())
+            .circuitBreakerConfig(circuitBreakerRegistry.circuitBreaker(id).getCircuitBreakerConfig())
+            .timeLimiterConfig(timeLimiterRegistry.timeLimiter(id).getTimeLimiterConfig())
             .build());
     }
-}
\ No newline at end of file
+}
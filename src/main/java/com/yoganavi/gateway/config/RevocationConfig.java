@@ -0,0 +1,22 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.handler.RevocationHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 토큰 폐기 관리 엔드포인트 (/admin/revocations)
+ */
+@Configuration
+public class RevocationConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> revocationRoutes(RevocationHandler revocationHandler) {
+        return RouterFunctions.route(RequestPredicates.POST("/admin/revocations"), revocationHandler::revoke)
+            .andRoute(RequestPredicates.GET("/admin/revocations"), revocationHandler::stats);
+    }
+}
@@ -1,88 +1,86 @@
 package com.yoganavi.gateway.config;
 
+import com.yoganavi.gateway.concurrency.OffloadScheduler;
+import com.yoganavi.gateway.filter.CompressionFilter;
+import com.yoganavi.gateway.filter.ConcurrencyLimitFilter;
+import com.yoganavi.gateway.filter.IdempotentRetryFilter;
 import com.yoganavi.gateway.filter.JwtAuthenticationFilter;
+import com.yoganavi.gateway.filter.LoadSheddingFilter;
+import com.yoganavi.gateway.filter.MetricFilter;
+import com.yoganavi.gateway.filter.RateLimitFilter;
+import com.yoganavi.gateway.filter.RequestCoalescingFilter;
 import com.yoganavi.gateway.filter.RequestLoggingFilter;
-import org.springframework.cloud.gateway.route.RouteLocator;
-import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import com.yoganavi.gateway.filter.RequestSizeLimitFilter;
+import com.yoganavi.gateway.filter.ResponseCacheFilter;
+import com.yoganavi.gateway.filter.StaleIfErrorFilter;
+import com.yoganavi.gateway.route.RouteTableCompiler;
+import com.yoganavi.gateway.route.RouteTableEndpoint;
+import com.yoganavi.gateway.route.RouteTableLocator;
+import com.yoganavi.gateway.route.RouteTableSource;
+import com.yoganavi.gateway.route.RouteTableWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerFilterFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 
+import java.time.Duration;
+
+/**
+ * 라우트 구성. 라우트는 gateway.routes.location 의 정의 파일(기본 classpath:routes.yml) 하나에서만 선언한다
+ */
 @Configuration
 public class RouteConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final RequestLoggingFilter requestLoggingFilter;
-
-    public RouteConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-                       RequestLoggingFilter requestLoggingFilter) {
-        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
-        this.requestLoggingFilter = requestLoggingFilter;
+    @Bean
+    public RouteTableSource routeTableSource(ResourceLoader resourceLoader,
+                                             @Value("${gateway.routes.location:classpath:routes.yml}") String location) {
+        return new RouteTableSource(resourceLoader.getResource(location));
     }
 
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
-        // 공개 경로
-        JwtAuthenticationFilter.Config authConfig = new JwtAuthenticationFilter.Config()
-                .addExcludedPath("/user/login")
-                .addExcludedPath("/user/register/email")
-                .addExcludedPath("/user/register/authnumber")
-                .addExcludedPath("/user/register")
-                .addExcludedPath("/user/find-password/email")
-                .addExcludedPath("/user/find-password/authnumber")
-                .addExcludedPath("/user/find-password");
-
-        return builder.routes()
-                // UseService 공개 라우트
-                .route("user-service-public", r -> r
-                        .path("/user/login", "/user/register/**", "/user/find-password/**")
-                        .filters(f -> f.filter(requestLoggingFilter.apply(new Object())))
-                        .uri("lb://user-service"))
-
-                // UserService 보호된 라우트
-                .route("user-service-protected", r -> r
-                        .path("/user/**", "/settings/**")
-                        .and()
-                        .not(p -> p.path("/user/login", "/user/register/**", "/user/find-password/**"))
-                        .filters(f -> f
-                                .filter(requestLoggingFilter.apply(new Object()))
-                                .filter(jwtAuthenticationFilter.apply(authConfig)))
-                        .uri("lb://user-service"))
+    public RouteTableCompiler routeTableCompiler(MetricFilter metricFilter,
+                                                 RequestLoggingFilter requestLoggingFilter,
+                                                 JwtAuthenticationFilter jwtAuthenticationFilter,
+                                                 LoadSheddingFilter loadSheddingFilter,
+                                                 RateLimitFilter rateLimitFilter,
+                                                 RequestSizeLimitFilter requestSizeLimitFilter,
+                                                 CompressionFilter compressionFilter,
+                                                 ResponseCacheFilter responseCacheFilter,
+                                                 RequestCoalescingFilter requestCoalescingFilter,
+                                                 StaleIfErrorFilter staleIfErrorFilter,
+                                                 ConcurrencyLimitFilter concurrencyLimitFilter,
+                                                 SpringCloudCircuitBreakerFilterFactory circuitBreakerFilter,
+                                                 IdempotentRetryFilter retryFilter,
+                                                 OffloadScheduler offloadScheduler) {
+        return new RouteTableCompiler(metricFilter, requestLoggingFilter, jwtAuthenticationFilter,
+            loadSheddingFilter, rateLimitFilter, requestSizeLimitFilter, compressionFilter, responseCacheFilter,
+            requestCoalescingFilter, staleIfErrorFilter, concurrencyLimitFilter, circuitBreakerFilter, retryFilter,
+            offloadScheduler);
+    }
 
-                // LiveLectureService
-                .route("live-lecture-service", r -> r
-                        .path("/live-lecture/**")
-                        .filters(f -> f
-                                .filter(requestLoggingFilter.apply(new Object()))
-                                .filter(jwtAuthenticationFilter.apply(authConfig))
-                                .circuitBreaker(config -> config
-                                        .setName("live-lecture-service")
-                                        .setFallbackUri("/fallback/live-lecture"))
-                                .retry(3))
-                        .uri("lb://live-lecture-service"))
+    @Bean
+    public RouteTableLocator routeTableLocator(RouteTableSource routeTableSource,
+                                               RouteTableCompiler routeTableCompiler,
+                                               MeterRegistry meterRegistry) {
+        return new RouteTableLocator(routeTableSource, routeTableCompiler, meterRegistry);
+    }
 
-                // RecordedLectureService
-                .route("recorded-lecture-service", r -> r
-                        .path("/recorded-lecture/**")
-                        .filters(f -> f
-                                .filter(requestLoggingFilter.apply(new Object()))
-                                .filter(jwtAuthenticationFilter.apply(authConfig))
-                                .circuitBreaker(config -> config
-                                        .setName("recorded-lecture-service")
-                                        .setFallbackUri("/fallback/recorded-lecture"))
-                                .retry(3))
-                        .uri("lb://recorded-lecture-service"))
+    /**
+     * 정의 파일이 파일 시스템에 있으면 변경 시 자동으로 다시 읽음
+     */
+    @Bean
+    @ConditionalOnProperty(name = "gateway.routes.watch", havingValue = "true", matchIfMissing = true)
+    public RouteTableWatcher routeTableWatcher(RouteTableSource routeTableSource,
+                                               RouteTableLocator routeTableLocator,
+                                               @Value("${gateway.routes.watch-debounce:500ms}") Duration debounce) {
+        return new RouteTableWatcher(routeTableSource, debounce, routeTableLocator);
+    }
 
-                // SignalingService
-                .route("signaling-service", r -> r
-                        .path("/signaling/**")
-                        .filters(f -> f
-                                .filter(requestLoggingFilter.apply(new Object()))
-                                .filter(jwtAuthenticationFilter.apply(authConfig))
-                                .circuitBreaker(config -> config
-                                        .setName("signaling-service")
-                                        .setFallbackUri("/fallback/signaling"))
-                                .retry(3))
-                        .uri("lb://signaling-service"))
-                .build();
+    @Bean
+    public RouteTableEndpoint routeTableEndpoint(RouteTableLocator routeTableLocator) {
+        return new RouteTableEndpoint(routeTableLocator);
     }
-}
\ No newline at end of file
+}
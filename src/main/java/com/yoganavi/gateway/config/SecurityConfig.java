@@ -1,7 +1,9 @@
 package com.yoganavi.gateway.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
@@ -11,6 +13,10 @@ import org.springframework.security.web.server.context.NoOpServerSecurityContext
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
+    // 액추에이터는 공개 포트에 있으므로 기본은 조회만 허용 (POST /actuator/routetable 등은 거절)
+    @Value("${gateway.actuator.write-enabled:false}")
+    private boolean actuatorWriteEnabled;
+
     @Bean
     public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
         return http.csrf(csrf -> csrf.disable())
@@ -18,9 +24,13 @@ public class SecurityConfig {
                 .requestCache(cache -> cache.disable()) // 요청 캐시 비활성화
                 .securityContextRepository(
                         NoOpServerSecurityContextRepository.getInstance()) // 서버 세션 비활성화
-                .authorizeExchange(exchanges -> exchanges
-                        .anyExchange().permitAll()
-                )
+                .authorizeExchange(exchanges -> {
+                    if (!actuatorWriteEnabled) {
+                        exchanges.pathMatchers(HttpMethod.GET, "/actuator/**").permitAll()
+                                .pathMatchers("/actuator/**").denyAll();
+                    }
+                    exchanges.anyExchange().permitAll();
+                })
                 .build();
     }
 }
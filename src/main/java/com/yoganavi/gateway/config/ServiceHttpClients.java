@@ -0,0 +1,119 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.loadbalancer.UpstreamResponseTime;
+import com.yoganavi.gateway.tracing.TraceTimeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별로 이름 붙은 커넥션 풀과 HttpClient 를 보관
+ * <p>
+ * 풀 메트릭(reactor.netty.connection.provider.*)은 풀 이름을 태그로 Micrometer 에 노출되어
+ * 서비스별 active / idle / pending acquire 수와 acquire 지연을 Prometheus 에서 볼 수 있다.
+ * 샘플링된 요청은 요청 전송과 응답 수신 시각을 TraceTimeline 에 남겨 커넥션 획득, 업스트림 응답 span 을 만든다.
+ * 응답 수신 시각은 로드 밸런서의 응답 시간 계산에도 사용한다 ({@link UpstreamResponseTime}).
+ * <p>
+ * HttpClient 는 게이트웨이 기본 HttpClient 와 같은 HttpClientFactory 로 만들고 커넥션 풀만 바꾸므로
+ * spring.cloud.gateway.httpclient.* 설정(ssl, proxy, wiretap, max-header-size, compression 등)과
+ * HttpClientCustomizer 빈이 그대로 적용된다.
+ */
+@Slf4j
+public class ServiceHttpClients {
+
+    private final ConnectionPoolProperties poolProperties;
+    private final HttpClientProperties gatewayProperties;
+    private final ServerProperties serverProperties;
+    private final HttpClientSslConfigurer sslConfigurer;
+    private final List<HttpClientCustomizer> customizers;
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    public ServiceHttpClients(ConnectionPoolProperties poolProperties,
+                              HttpClientProperties gatewayProperties,
+                              ServerProperties serverProperties,
+                              HttpClientSslConfigurer sslConfigurer,
+                              List<HttpClientCustomizer> customizers) {
+        this.poolProperties = poolProperties;
+        this.gatewayProperties = gatewayProperties;
+        this.serverProperties = serverProperties;
+        this.sslConfigurer = sslConfigurer;
+        this.customizers = customizers;
+        // 설정된 서비스는 시작 시 미리 생성
+        poolProperties.getServices().keySet().forEach(this::forService);
+    }
+
+    /**
+     * 서비스 id 에 해당하는 HttpClient. 처음 요청될 때 생성
+     */
+    public HttpClient forService(String serviceId) {
+        String key = serviceId.toLowerCase(Locale.ROOT);
+        HttpClient client = clients.get(key);
+        if (client != null) {
+            return client;
+        }
+        return clients.computeIfAbsent(key, this::create);
+    }
+
+    private HttpClient create(String serviceId) {
+        ConnectionPoolProperties.Pool pool = poolProperties.forService(serviceId);
+        ConnectionProvider provider = ConnectionProvider.builder("gateway-" + serviceId)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .maxLifeTime(pool.getMaxLifeTime())
+            .evictInBackground(pool.getEvictionInterval())
+            .metrics(true)
+            .build();
+        providers.put(serviceId, provider);
+
+        HttpClient client = new PooledHttpClientFactory(provider).build()
+            .protocol(pool.getProtocols().toArray(new HttpProtocol[0]))
+            .doOnRequest(TraceTimeline::requestSent)
+            .doOnResponse((response, connection) -> {
+                TraceTimeline.responseReceived(response, connection);
+                UpstreamResponseTime.received(response, connection);
+            });
+        log.info("gateway - {} 커넥션 풀 생성: maxConnections={}, pendingAcquireMaxCount={}, protocols={}",
+            serviceId, pool.getMaxConnections(), pool.getPendingAcquireMaxCount(), pool.getProtocols());
+        return client;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    // 게이트웨이 설정을 적용하는 생성 과정은 그대로 두고 커넥션 풀만 서비스별 풀로 바꿈
+    private class PooledHttpClientFactory extends HttpClientFactory {
+
+        private final ConnectionProvider provider;
+
+        PooledHttpClientFactory(ConnectionProvider provider) {
+            super(gatewayProperties, serverProperties, sslConfigurer, customizers);
+            this.provider = provider;
+        }
+
+        HttpClient build() {
+            return createInstance();
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            return provider;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.yoganavi.gateway.config;
+
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import com.yoganavi.gateway.tracing.FileSpanHandler;
+import com.yoganavi.gateway.tracing.TraceStageFilter;
+import com.yoganavi.gateway.tracing.TracingWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 분산 추적 구성
+ * <p>
+ * traceparent(W3C) 전파와 서버/클라이언트 span 은 Micrometer Observation 과 Brave 브리지가 만들고,
+ * 여기서는 샘플러, 게이트웨이 구간 span, 파일 기록기만 등록한다.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * 새로 시작하는 trace 를 초당 개수로 제한. 부하가 늘어도 span 생성 비용이 일정하게 유지된다
+     * (traceparent 로 이미 샘플링 여부가 정해진 요청은 그 결정을 따른다)
+     */
+    @Bean
+    public Sampler rateLimitingSampler(@Value("${gateway.tracing.traces-per-second:10}") int tracesPerSecond) {
+        return RateLimitingSampler.create(tracesPerSecond);
+    }
+
+    @Bean
+    public TracingWebFilter tracingWebFilter(ObjectProvider<Tracer> tracer) {
+        return new TracingWebFilter(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Bean
+    public TraceStageFilter routeMatchedStageFilter() {
+        return new TraceStageFilter(TraceStageFilter.Point.ROUTE_MATCHED);
+    }
+
+    @Bean
+    public TraceStageFilter loadBalancerStartStageFilter() {
+        return new TraceStageFilter(TraceStageFilter.Point.LOAD_BALANCER_START);
+    }
+
+    @Bean
+    public TraceStageFilter loadBalancerEndStageFilter() {
+        return new TraceStageFilter(TraceStageFilter.Point.LOAD_BALANCER_END);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.tracing.file.enabled", havingValue = "true")
+    public FileSpanHandler fileSpanHandler(MeterRegistry meterRegistry,
+                                           @Value("${gateway.tracing.file.path:logs/spans.json}") Path path,
+                                           @Value("${gateway.tracing.file.max-size:100MB}") DataSize maxSize,
+                                           @Value("${gateway.tracing.file.buffer-size:8192}") int bufferSize) {
+        return new FileSpanHandler(meterRegistry, path, maxSize.toBytes(), bufferSize);
+    }
+}
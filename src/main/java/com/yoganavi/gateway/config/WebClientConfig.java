@@ -1,5 +1,13 @@
 package com.yoganavi.gateway.config;
 
+import com.yoganavi.gateway.filter.ServicePoolRoutingFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -9,17 +17,41 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
- * WebClient 설정
+ * WebClient 및 다운스트림 프록시용 HttpClient 설정
  */
 @Configuration
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
 public class WebClientConfig {
 
     @Bean
-    public WebClient.Builder webClientBuilder() {
+    public ServiceHttpClients serviceHttpClients(ConnectionPoolProperties poolProperties,
+                                                 HttpClientProperties gatewayProperties,
+                                                 ServerProperties serverProperties,
+                                                 HttpClientSslConfigurer sslConfigurer,
+                                                 ObjectProvider<HttpClientCustomizer> customizers) {
+        return new ServiceHttpClients(poolProperties, gatewayProperties, serverProperties, sslConfigurer,
+            customizers.orderedStream().toList());
+    }
+
+    /**
+     * 서비스별 커넥션 풀을 사용하는 라우팅 필터 (기본 NettyRoutingFilter 대체)
+     */
+    @Bean
+    public ServicePoolRoutingFilter servicePoolRoutingFilter(
+            HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            HttpClientProperties gatewayProperties,
+            ServiceHttpClients serviceHttpClients) {
+        return new ServicePoolRoutingFilter(httpClient, headersFilters, gatewayProperties, serviceHttpClients);
+    }
+
+    @Bean
+    public WebClient.Builder webClientBuilder(ServiceHttpClients serviceHttpClients) {
         return WebClient.builder()
-            .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+            .clientConnector(new ReactorClientHttpConnector(serviceHttpClients.forService("webclient")
                 .responseTimeout(Duration.ofSeconds(5))))
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
     }
@@ -28,4 +60,4 @@ public class WebClientConfig {
     public WebClient webClient(WebClient.Builder webClientBuilder) {
         return webClientBuilder.build();
     }
-}
\ No newline at end of file
+}
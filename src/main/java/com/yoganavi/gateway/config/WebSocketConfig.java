@@ -0,0 +1,42 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.websocket.SignalingWebSocketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+
+import java.time.Duration;
+
+/**
+ * signaling-service WebSocket 프록시 설정
+ * <p>
+ * 게이트웨이 자동 구성이 등록한 WebSocketService 를 새 빈으로 대체하지 않고 감싸서,
+ * WebsocketRoutingFilter 가 그대로 주입받는 빈에 연결 수 제한, 유휴 종료, ping, 메트릭이 적용되게 한다.
+ * 같은 이름의 빈을 다시 등록하면 빈 재정의 금지로 시작에 실패하고, 다른 이름으로 등록하면 후보가 둘이 된다.
+ */
+@Configuration
+public class WebSocketConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 MeterRegistry 는 감쌀 때 꺼냄
+    @Bean
+    public static BeanPostProcessor signalingWebSocketServicePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${gateway.websocket.max-connections:20000}") int maxConnections,
+            @Value("${gateway.websocket.idle-timeout:5m}") Duration idleTimeout,
+            @Value("${gateway.websocket.ping-interval:30s}") Duration pingInterval) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof WebSocketService delegate) || bean instanceof SignalingWebSocketService) {
+                    return bean;
+                }
+                return new SignalingWebSocketService(delegate, maxConnections, idleTimeout, pingInterval,
+                    meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.yoganavi.gateway.constants;
+
+/**
+ * 라우트 필터 실행 순서
+ * <p>
+ * 응답 본문을 가로채는 필터(캐시, 요청 합치기, stale-if-error)는 업스트림 응답을 쓰는
+ * NettyWriteResponseFilter(-1)보다 먼저 실행되어야 하고, 인증 정보를 사용하므로 인증 필터보다는 뒤에 있어야 한다.
+ * 과부하 차단 필터는 요청 본문을 읽거나 캐시, 커넥션 풀을 사용하기 전에 거절하도록 인증 필터 바로 뒤에 둔다.
+ * 동시 요청 한도 필터는 캐시 적중, 합쳐진 요청이 한도를 차지하지 않도록 그 뒤에 둔다.
+ * 응답 압축 필터는 캐시 적중 응답도 압축하고 캡처 필터는 압축 전 본문을 저장하도록 캡처 필터들보다 앞에 둔다.
+ * circuitBreaker, 재시도 필터는 순서를 지정하지 않아(0 이상) NettyWriteResponseFilter 안쪽에서 실행된다.
+ */
+public final class FilterOrder {
+
+    public static final int METRIC = -110;
+    public static final int REQUEST_LOGGING = -100;
+    public static final int AUTHENTICATION = -90;
+    public static final int LOAD_SHEDDING = -88;
+    public static final int REQUEST_SIZE_LIMIT = -85;
+    public static final int RATE_LIMIT = -80;
+    public static final int COMPRESSION = -50;
+    public static final int RESPONSE_CACHE = -30;
+    public static final int REQUEST_COALESCING = -20;
+    public static final int STALE_IF_ERROR = -10;
+    public static final int CONCURRENCY_LIMIT = -5;
+
+    private FilterOrder() {
+    }
+}
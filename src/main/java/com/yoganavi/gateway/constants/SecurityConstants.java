@@ -5,5 +5,7 @@ public class SecurityConstants {
     public static final String JWT_HEADER = "Authorization";
     public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
     public static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+    public static final String MEMBER_ID_HEADER = "X-Member-Id";
+    public static final String ROLE_HEADER = "X-Role";
 
 }
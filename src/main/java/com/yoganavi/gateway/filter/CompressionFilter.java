@@ -0,0 +1,109 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.compression.CompressingResponse;
+import com.yoganavi.gateway.compression.ContentEncoding;
+import com.yoganavi.gateway.constants.FilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 압축 필터 (gzip, deflate)
+ * <p>
+ * Accept-Encoding 으로 압축 방식을 협상하고, 업스트림 응답을 DataBuffer 단위로 받는 즉시 압축해 내보낸다.
+ * 업스트림 요청에서는 Accept-Encoding 을 제거해 항상 압축되지 않은 응답을 받으므로,
+ * 응답 캐시와 요청 합치기가 저장하는 본문은 클라이언트의 압축 지원 여부와 무관하다.
+ * 캐시 적중 응답도 이 필터 안쪽에서 쓰이므로 같은 방식으로 압축된다.
+ * 원본/압축 후 바이트 수는 gateway.compression.bytes{encoding, stage} 로 기록한다.
+ */
+@Component
+public class CompressionFilter extends AbstractGatewayFilterFactory<CompressionFilter.Config> {
+
+    private final Map<ContentEncoding, Counter> originalBytes = new EnumMap<>(ContentEncoding.class);
+    private final Map<ContentEncoding, Counter> compressedBytes = new EnumMap<>(ContentEncoding.class);
+
+    public CompressionFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            originalBytes.put(encoding, Counter.builder("gateway.compression.bytes")
+                .tag("encoding", encoding.token())
+                .tag("stage", "original")
+                .baseUnit("bytes")
+                .register(meterRegistry));
+            compressedBytes.put(encoding, Counter.builder("gateway.compression.bytes")
+                .tag("encoding", encoding.token())
+                .tag("stage", "compressed")
+                .baseUnit("bytes")
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 허용 Content-Type 과 임계값은 필터 생성 시 한 번만 계산
+        List<MimeType> mimeTypes = MimeTypeUtils.parseMimeTypes(config.getMimeTypes());
+        long minSize = config.getMinSize().toBytes();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            ContentEncoding encoding = HttpMethod.HEAD.equals(request.getMethod())
+                ? null
+                : ContentEncoding.negotiate(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+
+            CompressingResponse response = new CompressingResponse(exchange.getResponse(), encoding, minSize,
+                config.getLevel(), mimeTypes, (original, compressed) -> {
+                    if (encoding != null && original > 0) {
+                        originalBytes.get(encoding).increment(original);
+                        compressedBytes.get(encoding).increment(compressed);
+                    }
+                });
+            if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+                return chain.filter(exchange.mutate().response(response).build());
+            }
+            ServerHttpRequest upstreamRequest = request.mutate()
+                .headers(headers -> headers.remove(HttpHeaders.ACCEPT_ENCODING))
+                .build();
+            return chain.filter(exchange.mutate().request(upstreamRequest).response(response).build());
+        }, FilterOrder.COMPRESSION);
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // Content-Length 가 이보다 작은 응답은 압축하지 않음 (길이를 모르는 응답은 압축)
+        private DataSize minSize = DataSize.ofKilobytes(1);
+        // 1(빠름) ~ 9(작음). 게이트웨이 CPU 를 고려해 zlib 기본값(6)보다 한 단계 낮춤
+        private int level = 5;
+        private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json", "application/*+json",
+            "application/javascript", "application/xml", "application/*+xml",
+            "text/*", "image/svg+xml"));
+
+        public Config minSize(DataSize minSize) {
+            this.minSize = minSize;
+            return this;
+        }
+
+        public Config level(int level) {
+            this.level = level;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.concurrency.AdaptiveConcurrencyLimiter;
+import com.yoganavi.gateway.constants.FilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별 적응형 동시 요청 한도 필터
+ * <p>
+ * 서비스마다 {@link AdaptiveConcurrencyLimiter} 하나를 두고, 한도에 도달하면 업스트림을 호출하지 않고 바로 503 으로 응답한다.
+ * 서킷 브레이커가 실패가 쌓인 뒤에야 열리는 것과 달리, 지연 시간이 늘어나는 시점부터 한도를 줄여 백엔드 큐가 쌓이는 것을 막는다.
+ * 서비스 이름은 설정하지 않으면 라우트 URI 의 호스트(lb://user-service → user-service)를 사용하므로
+ * 같은 서비스로 가는 라우트는 한도를 공유한다.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter extends AbstractGatewayFilterFactory<ConcurrencyLimitFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final String retryAfterSeconds;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${gateway.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Limiter limiter = limiterFor(serviceOf(exchange, config), config);
+            if (!limiter.delegate().tryAcquire()) {
+                limiter.rejected().increment();
+                log.debug("gateway - 동시 요청 한도 초과: {}", limiter.service());
+                return reject(exchange);
+            }
+
+            long startTime = System.nanoTime();
+            return chain.filter(exchange)
+                .doFinally(signal -> {
+                    // 취소되었거나 fallback 이 응답한 요청은 업스트림 지연 시간을 반영하지 않음
+                    if (signal == SignalType.CANCEL
+                        || exchange.getAttribute(StaleIfErrorFilter.FALLBACK_SERVED_ATTR) != null) {
+                        limiter.delegate().release();
+                    } else {
+                        limiter.delegate().release(System.nanoTime() - startTime,
+                            signal == SignalType.ON_ERROR || isOverloaded(exchange.getResponse().getStatusCode()));
+                    }
+                });
+        }, FilterOrder.CONCURRENCY_LIMIT);
+    }
+
+    private String serviceOf(ServerWebExchange exchange, Config config) {
+        if (config.getName() != null) {
+            return config.getName();
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return "unknown";
+        }
+        String host = route.getUri().getHost();
+        return host != null ? host : route.getId();
+    }
+
+    // 서비스 한도는 처음 만든 라우트의 설정을 따름
+    private Limiter limiterFor(String service, Config config) {
+        Limiter limiter = limiters.get(service);
+        if (limiter != null) {
+            return limiter;
+        }
+        return limiters.computeIfAbsent(service, name -> {
+            AdaptiveConcurrencyLimiter delegate = new AdaptiveConcurrencyLimiter(config.getInitialLimit(),
+                config.getMinLimit(), config.getMaxLimit(), config.getSmoothing(), config.getBackoffRatio());
+            Gauge.builder("gateway.concurrency.limit", delegate, AdaptiveConcurrencyLimiter::getLimit)
+                .description("서비스별 현재 동시 요청 한도")
+                .tag("service", name)
+                .register(meterRegistry);
+            Gauge.builder("gateway.concurrency.in-flight", delegate, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("서비스별 처리 중인 요청 수")
+                .tag("service", name)
+                .register(meterRegistry);
+            Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .tag("service", name)
+                .register(meterRegistry);
+            return new Limiter(name, delegate, rejected);
+        });
+    }
+
+    private static boolean isOverloaded(HttpStatusCode statusCode) {
+        if (statusCode == null) {
+            return false;
+        }
+        int status = statusCode.value();
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        return response.setComplete();
+    }
+
+    private record Limiter(String service, AdaptiveConcurrencyLimiter delegate, Counter rejected) {
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 한도를 공유할 서비스 이름 (없으면 라우트 URI 호스트)
+        private String name;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 500;
+        // 새로 계산한 한도를 반영하는 비율
+        private double smoothing = 0.2;
+        // 타임아웃, 5xx 발생 시 한도에 곱할 비율
+        private double backoffRatio = 0.9;
+
+        public Config name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Config limits(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.retry.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멱등 요청만 재시도하는 필터
+ * <p>
+ * - 안전한 메서드(GET, HEAD, OPTIONS)나 Idempotency-Key 헤더가 있는 요청만 재시도
+ * - 지수 백오프 + 지터
+ * - 라우트별 재시도 예산(최근 트래픽 대비 비율)을 넘으면 재시도하지 않음
+ * - gateway.retry.attempted / gateway.retry.suppressed 메트릭 기록
+ */
+@Component
+@Slf4j
+public class IdempotentRetryFilter extends AbstractGatewayFilterFactory<IdempotentRetryFilter.Config> {
+
+    private static final String REASON_NOT_IDEMPOTENT = "not_idempotent";
+    private static final String REASON_BUDGET = "budget_exhausted";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public IdempotentRetryFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 필터 인스턴스(라우트)마다 별도의 예산
+        RetryBudget budget = new RetryBudget(config.getBudgetRatio(), config.getMinRetriesPerSecond(),
+            config.getMaxBudget());
+
+        return (exchange, chain) -> {
+            budget.deposit();
+            String routeId = routeIdOf(exchange);
+
+            if (!isIdempotent(exchange.getRequest(), config)) {
+                // 재시도 대상이었을 실패만 suppressed 로 기록
+                return chain.filter(exchange)
+                    .doOnSuccess(v -> {
+                        if (isRetryableStatus(exchange.getResponse().getStatusCode(), config)) {
+                            counter("gateway.retry.suppressed", routeId, REASON_NOT_IDEMPOTENT).increment();
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (isRetryableError(e, config)) {
+                            counter("gateway.retry.suppressed", routeId, REASON_NOT_IDEMPOTENT).increment();
+                        }
+                    });
+            }
+
+            if (!hasBody(exchange.getRequest())) {
+                return retrying(exchange, chain, config, budget, routeId);
+            }
+            // 본문이 있는 요청은 재전송할 수 있도록 본문을 캐시
+            return ServerWebExchangeUtils.cacheRequestBody(exchange, cachedRequest ->
+                retrying(exchange.mutate().request(cachedRequest).build(), chain, config, budget, routeId));
+        };
+    }
+
+    private Mono<Void> retrying(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                                RetryBudget budget, String routeId) {
+        AtomicInteger attempt = new AtomicInteger();
+
+        Mono<Void> attemptOnce = Mono.defer(() -> {
+            if (attempt.getAndIncrement() > 0) {
+                reset(exchange);
+            }
+            return chain.filter(exchange)
+                .then(Mono.defer(() -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    return isRetryableStatus(status, config)
+                        ? Mono.<Void>error(new RetryableStatusException(status))
+                        : Mono.<Void>empty();
+                }));
+        });
+
+        return attemptOnce
+            .retryWhen(Retry.backoff(config.getRetries(), config.getFirstBackoff())
+                .maxBackoff(config.getMaxBackoff())
+                .jitter(config.getJitter())
+                .filter(e -> shouldRetry(exchange, e, config, budget, routeId))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+            // 마지막 시도의 응답(5xx)은 그대로 클라이언트에 전달
+            .onErrorResume(RetryableStatusException.class, e -> Mono.empty());
+    }
+
+    private boolean shouldRetry(ServerWebExchange exchange, Throwable error, Config config,
+                                RetryBudget budget, String routeId) {
+        if (exchange.getResponse().isCommitted() || !isRetryableError(error, config)) {
+            return false;
+        }
+        if (!budget.tryWithdraw()) {
+            counter("gateway.retry.suppressed", routeId, REASON_BUDGET).increment();
+            log.debug("gateway - 재시도 예산 소진: {}", routeId);
+            return false;
+        }
+        counter("gateway.retry.attempted", routeId, null).increment();
+        return true;
+    }
+
+    private boolean isIdempotent(ServerHttpRequest request, Config config) {
+        return config.getMethods().contains(request.getMethod())
+            || (config.getIdempotencyKeyHeader() != null
+            && request.getHeaders().containsKey(config.getIdempotencyKeyHeader()));
+    }
+
+    private static boolean hasBody(ServerHttpRequest request) {
+        return request.getHeaders().getContentLength() > 0
+            || request.getHeaders().containsKey("Transfer-Encoding");
+    }
+
+    private static boolean isRetryableStatus(HttpStatusCode status, Config config) {
+        return status != null && config.getStatuses().contains(HttpStatus.resolve(status.value()));
+    }
+
+    private static boolean isRetryableError(Throwable error, Config config) {
+        if (error instanceof RetryableStatusException) {
+            return true;
+        }
+        if (error instanceof ResponseStatusException statusException) {
+            return isRetryableStatus(statusException.getStatusCode(), config);
+        }
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    // 이전 시도의 업스트림 연결을 정리하고 다시 라우팅할 수 있도록 exchange 초기화
+    private static void reset(ServerWebExchange exchange) {
+        Connection connection = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null) {
+            connection.dispose();
+            exchange.getAttributes().remove(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        }
+        ServerWebExchangeUtils.reset(exchange);
+    }
+
+    private static String routeIdOf(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private Counter counter(String name, String routeId, String reason) {
+        String key = name + '|' + routeId + '|' + reason;
+        return counters.computeIfAbsent(key, k -> {
+            Counter.Builder builder = Counter.builder(name).tag("route", routeId);
+            if (reason != null) {
+                builder.tag("reason", reason);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private static class RetryableStatusException extends RuntimeException {
+
+        RetryableStatusException(HttpStatusCode status) {
+            super("retryable upstream status: " + status, null, false, false);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 최대 재시도 횟수 (최초 요청 제외)
+        private int retries = 2;
+        private Set<HttpStatus> statuses = EnumSet.of(
+            HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+        // 항상 재시도 가능한 메서드
+        private Set<HttpMethod> methods = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+        // 이 헤더가 있으면 메서드와 무관하게 재시도 가능
+        private String idempotencyKeyHeader = "Idempotency-Key";
+        private Duration firstBackoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofMillis(500);
+        private double jitter = 0.5;
+        // 최초 요청 대비 재시도 비율
+        private double budgetRatio = 0.1;
+        private int minRetriesPerSecond = 5;
+        private int maxBudget = 100;
+
+        public Config retries(int retries) {
+            this.retries = retries;
+            return this;
+        }
+
+        public Config budget(double ratio, int minRetriesPerSecond) {
+            this.budgetRatio = ratio;
+            this.minRetriesPerSecond = minRetriesPerSecond;
+            return this;
+        }
+    }
+}
@@ -2,19 +2,25 @@ package com.yoganavi.gateway.filter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.gateway.constants.FilterOrder;
 import com.yoganavi.gateway.constants.SecurityConstants;
+import com.yoganavi.gateway.revocation.RevocationList;
+import com.yoganavi.gateway.route.PathPatternTrie;
+import com.yoganavi.gateway.route.RouteIndex;
+import com.yoganavi.gateway.slo.RequestTimings;
+import com.yoganavi.gateway.tracing.TraceTimeline;
 import com.yoganavi.gateway.util.JwtUtil;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -31,23 +37,37 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends
         AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
+    /**
+     * 검증된 토큰 정보를 담는 exchange 속성. 하위 필터와 로깅에서 사용
+     */
+    public static final String PRINCIPAL_ATTR = JwtAuthenticationFilter.class.getName() + ".principal";
+
+    // 오류 응답 직렬화용. 요청마다 만들면 이벤트 루프에서 직렬화기 캐시를 매번 다시 채움
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final JwtUtil jwtUtil;
+    private final RevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, RevocationList revocationList) {
         super(Config.class);
         this.jwtUtil = jwtUtil;
+        this.revocationList = revocationList;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
+        // 제외 경로는 필터 생성 시 한 번만 컴파일
+        PathPatternTrie<Boolean> excludedPaths = PathPatternTrie.of(config.getExcludedPaths());
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
             String path = exchange.getRequest().getPath().value();
             log.debug("gateway - 입력 요청 경로: {}", path);
 
-            // 제외 경로 체크
-            if (config.getExcludedPaths().contains(path)) {
+            // 제외 경로 체크 - 라우트 인덱스에서 공개 라우트로 매칭되었거나 제외 경로에 해당하는 경우
+            RouteIndex.Entry route = RouteIndex.currentMatch(exchange);
+            if ((route != null && !route.authRequired()) || excludedPaths.match(path) != null) {
                 log.debug("gateway - jwt 인증 제외: {}", path);
-                return chain.filter(exchange);
+                return chain.filter(withoutIdentityHeaders(exchange));
             }
 
             String token = exchange.getRequest().getHeaders()
@@ -59,41 +79,35 @@ public class JwtAuthenticationFilter extends
                 return handleError(exchange, JwtUtil.TokenStatus.NOT_FOUND, "토큰이 없거나 잘못된 형식입니다");
             }
 
+            long authStart = System.nanoTime();
             String extractedToken = jwtUtil.extractToken(token);
-            JwtUtil.TokenStatus status = jwtUtil.validateTokenStatus(extractedToken);
+            // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+            JwtUtil.TokenPrincipal principal = jwtUtil.verify(extractedToken);
+            JwtUtil.TokenStatus status = principal.status();
+            // 서명이 유효해도 로그아웃, 비밀번호 재설정 등으로 폐기된 토큰은 거부 (메모리 조회만 수행)
+            boolean revoked = status == JwtUtil.TokenStatus.VALID && revocationList.isRevoked(principal);
+            long authEnd = System.nanoTime();
+            RequestTimings.addAuth(exchange, authEnd - authStart);
+            TraceTimeline.record(exchange, TraceTimeline.Stage.AUTH, authStart, authEnd);
             log.debug("토큰 검증 결과: {}", status);
 
             Integer userId;
             String role;
-            ServerHttpRequest request;
 
             switch (status) {
                 case VALID:
-                    userId = jwtUtil.getUserIdFromToken(extractedToken);
-                    role = jwtUtil.getRoleFromToken(extractedToken);
-                    request = exchange.getRequest();
-
-                    log.info("gateway - 유저: {}에 대한 토큰 검증 완료", userId);
-
-                    // ServerHttpRequestDecorator 사용하여 헤더 수정
-                    ServerHttpRequest modifiedRequestVALID = new ServerHttpRequestDecorator(
-                            request) {
-                        @Override
-                        public HttpHeaders getHeaders() {
-                            HttpHeaders headers = new HttpHeaders();
-                            headers.putAll(super.getHeaders());
-                            headers.add("X-Member-Id", userId.toString());
-                            headers.add("X-Role", role);
-                            return headers;
-                        }
-                    };
-
-                    // 수정된 요청으로 새로운 exchange 생성
-                    ServerWebExchange modifiedExchangeVALID = exchange.mutate()
-                            .request(modifiedRequestVALID)
-                            .build();
-
-                    return chain.filter(modifiedExchangeVALID);
+                    if (revoked) {
+                        log.warn("gateway - 폐기된 토큰: userId={}, jti={}", principal.userId(), principal.tokenId());
+                        return handleError(exchange, JwtUtil.TokenStatus.REVOKED, "폐기된 토큰입니다");
+                    }
+                    userId = principal.userId();
+                    role = principal.role();
+
+                    log.debug("gateway - 유저: {}에 대한 토큰 검증 완료", userId);
+                    exchange.getAttributes().put(PRINCIPAL_ATTR, principal);
+
+                    // 신원 헤더는 요청당 한 번만 주입하고, 클라이언트가 보낸 동일 헤더는 덮어씀
+                    return chain.filter(withIdentityHeaders(exchange, userId, role));
 
                 case EXPIRED:
                     return handleError(exchange, JwtUtil.TokenStatus.EXPIRED, "토큰이 만료되었습니다");
@@ -109,7 +123,45 @@ public class JwtAuthenticationFilter extends
                     log.error("gateway - 토큰 처리 중 오류가 발생: {}", status);
                     return handleError(exchange, JwtUtil.TokenStatus.INVALID, "토큰 처리 중 오류가 발생했습니다");
             }
-        };
+        }, FilterOrder.AUTHENTICATION);
+    }
+
+    /**
+     * 검증된 신원 헤더(X-Member-Id, X-Role)를 주입한 exchange 반환
+     * <p>
+     * 헤더 복사는 mutate 시점에 한 번만 일어나며, 이후 getHeaders() 호출은 추가 할당 없이 같은 헤더를 돌려준다.
+     */
+    static ServerWebExchange withIdentityHeaders(ServerWebExchange exchange, Integer userId,
+                                                 String role) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.set(SecurityConstants.MEMBER_ID_HEADER, userId.toString());
+                    if (role != null) {
+                        headers.set(SecurityConstants.ROLE_HEADER, role);
+                    } else {
+                        headers.remove(SecurityConstants.ROLE_HEADER);
+                    }
+                })
+                .build();
+        return exchange.mutate().request(request).build();
+    }
+
+    /**
+     * 인증을 거치지 않는 요청에서 클라이언트가 위조한 신원 헤더 제거
+     */
+    static ServerWebExchange withoutIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (!headers.containsKey(SecurityConstants.MEMBER_ID_HEADER)
+                && !headers.containsKey(SecurityConstants.ROLE_HEADER)) {
+            return exchange;
+        }
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(h -> {
+                    h.remove(SecurityConstants.MEMBER_ID_HEADER);
+                    h.remove(SecurityConstants.ROLE_HEADER);
+                })
+                .build();
+        return exchange.mutate().request(request).build();
     }
 
     private String getRefreshTokenFromCookies(ServerWebExchange exchange) {
@@ -125,7 +177,7 @@ public class JwtAuthenticationFilter extends
     private Mono<Void> handleError(ServerWebExchange exchange, JwtUtil.TokenStatus status,
                                    String message) {
         HttpStatus httpStatus = switch (status) {
-            case EXPIRED, INVALID, NOT_FOUND -> HttpStatus.UNAUTHORIZED;
+            case EXPIRED, INVALID, NOT_FOUND, REVOKED -> HttpStatus.UNAUTHORIZED;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
 
@@ -142,7 +194,7 @@ public class JwtAuthenticationFilter extends
 
         byte[] bytes = null;
         try {
-            bytes = new ObjectMapper().writeValueAsBytes(errorDetails);
+            bytes = MAPPER.writeValueAsBytes(errorDetails);
         } catch (JsonProcessingException e) {
             log.error("Error creating error response", e);
             bytes = "{}".getBytes();
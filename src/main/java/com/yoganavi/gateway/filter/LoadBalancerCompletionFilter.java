@@ -0,0 +1,87 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.loadbalancer.UpstreamResponseTime;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycleValidator;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Set;
+
+/**
+ * ReactiveLoadBalancerClientFilter 가 알리지 않는 로드 밸런서 완료 정보를 보완하는 글로벌 필터
+ * <p>
+ * - 인스턴스 선택 직후 {@link UpstreamResponseTime} 을 넣어, 로드 밸런서가 본문 전송이 끝난 시점이 아니라
+ *   응답 헤더를 받은 시점으로 응답 시간을 계산하게 한다.
+ * - 타임아웃, 클라이언트 연결 종료로 취소된 요청은 로드 밸런서 필터가 완료를 알리지 않으므로
+ *   DISCARD 로 대신 알려 인스턴스의 처리 중 요청 수가 남지 않게 한다.
+ */
+@Component
+public class LoadBalancerCompletionFilter implements GlobalFilter, Ordered {
+
+    private final LoadBalancerClientFactory clientFactory;
+
+    public LoadBalancerCompletionFilter(LoadBalancerClientFactory clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse =
+            exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        UpstreamResponseTime responseTime = new UpstreamResponseTime();
+        exchange.getAttributes().put(UpstreamResponseTime.ATTR, responseTime);
+        return chain.filter(exchange)
+            .contextWrite(context -> context.put(UpstreamResponseTime.class, responseTime))
+            .doFinally(signal -> {
+                if (signal == SignalType.CANCEL) {
+                    discard(exchange, lbResponse);
+                }
+            });
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void discard(ServerWebExchange exchange, Response<ServiceInstance> lbResponse) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || route.getUri().getHost() == null) {
+            return;
+        }
+        // 로드 밸런서 필터와 같은 방식으로 서비스별 lifecycle 을 찾음
+        Set<LoadBalancerLifecycle> lifecycles = LoadBalancerLifecycleValidator.getSupportedLifecycleProcessors(
+            clientFactory.getInstances(route.getUri().getHost(), LoadBalancerLifecycle.class),
+            RequestDataContext.class, ResponseData.class, ServiceInstance.class);
+        if (lifecycles.isEmpty()) {
+            return;
+        }
+        DefaultRequest<RequestDataContext> lbRequest = new DefaultRequest<>(
+            new RequestDataContext(new RequestData(exchange.getRequest(), exchange.getAttributes())));
+        CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion =
+            new CompletionContext<>(CompletionContext.Status.DISCARD, lbRequest, lbResponse);
+        lifecycles.forEach(lifecycle -> lifecycle.onComplete(completion));
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
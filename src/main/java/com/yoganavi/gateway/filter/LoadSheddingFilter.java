@@ -0,0 +1,86 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.concurrency.OverloadController;
+import com.yoganavi.gateway.concurrency.OverloadController.Priority;
+import com.yoganavi.gateway.constants.FilterOrder;
+import com.yoganavi.gateway.util.JwtUtil;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 과부하 시 우선순위가 낮은 요청부터 차단하는 필터
+ * <p>
+ * 라우트 우선순위에 인증 필터가 검증한 토큰의 role 별 조정을 더해 요청 우선순위를 정하고,
+ * {@link OverloadController} 가 해당 우선순위를 차단 중이면 업스트림을 호출하지 않고 바로 503 으로 응답한다.
+ * 요청 본문을 읽기 전, 캐시나 커넥션 풀을 사용하기 전에 거절하도록 인증 필터 바로 뒤에 둔다.
+ */
+@Component
+@Slf4j
+public class LoadSheddingFilter extends AbstractGatewayFilterFactory<LoadSheddingFilter.Config> {
+
+    private final OverloadController overloadController;
+    private final String retryAfterSeconds;
+
+    public LoadSheddingFilter(OverloadController overloadController,
+                              @Value("${gateway.overload.retry-after-seconds:1}") int retryAfterSeconds) {
+        super(Config.class);
+        this.overloadController = overloadController;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            JwtUtil.TokenPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+            Priority priority = overloadController.priorityOf(config.getPriority(),
+                principal != null ? principal.role() : null);
+
+            if (!config.isTrackInFlight()) {
+                return overloadController.admit(priority) ? chain.filter(exchange) : reject(exchange, priority);
+            }
+            if (!overloadController.tryEnter(priority)) {
+                return reject(exchange, priority);
+            }
+            return chain.filter(exchange)
+                .doFinally(signal -> overloadController.exit());
+        }, FilterOrder.LOAD_SHEDDING);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, Priority priority) {
+        log.debug("gateway - 과부하로 요청 차단: priority={}, path={}", priority, exchange.getRequest().getPath());
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        return response.setComplete();
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        private Priority priority = Priority.NORMAL;
+        // false 면 처리 중 요청 수에 포함하지 않음 (WebSocket, SSE 처럼 연결이 오래 유지되는 요청)
+        private boolean trackInFlight = true;
+
+        public Config priority(Priority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Config trackInFlight(boolean trackInFlight) {
+            this.trackInFlight = trackInFlight;
+            return this;
+        }
+    }
+}
@@ -1,26 +1,58 @@
 package com.yoganavi.gateway.filter;
 
+import com.yoganavi.gateway.constants.FilterOrder;
+import com.yoganavi.gateway.slo.RequestTimings;
+import com.yoganavi.gateway.slo.Slo;
+import com.yoganavi.gateway.slo.SloTracker;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.SignalType;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * 게이트웨이를 통과하는 모든 요청의 메트릭 수집
+ * <p>
+ * 요청 경로 대신 라우트 id 로 태그를 달아 meter 수가 라우트 수에 비례하도록 유지한다.
+ * 라우트별 meter 는 처음 사용될 때 한 번만 등록하고 이후에는 캐시에서 꺼내 쓴다.
+ * 처리 시간은 인증, 업스트림, 게이트웨이 구간으로 나눠 gateway.request.phase{route, phase} 로도 기록하고,
+ * SLO 가 정의된 라우트는 SloTracker 에 함께 기록한다.
  */
 @Component
-@Slf4j
 public class MetricFilter extends AbstractGatewayFilterFactory<Object> {
 
+    static final String OVERFLOW_TAG = "OTHER";
+    static final String UNKNOWN_STATUS_TAG = "NONE";
+
+    private static final int STATUS_SLOTS = 600;
+    private static final Set<String> KNOWN_METHODS = Set.of(
+        "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
     private final MeterRegistry meterRegistry;
+    private final SloTracker sloTracker;
+    private final int maxRouteTags;
 
-    public MetricFilter(MeterRegistry meterRegistry) {
+    // 라우트 태그 -> 메서드 -> 상태 코드 순으로 meter 를 캐시
+    private final ConcurrentHashMap<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    public MetricFilter(MeterRegistry meterRegistry, SloTracker sloTracker,
+                        @Value("${gateway.metrics.max-route-tags:200}") int maxRouteTags) {
         this.meterRegistry = meterRegistry;
+        this.sloTracker = sloTracker;
+        this.maxRouteTags = maxRouteTags;
     }
 
     /**
@@ -30,37 +62,141 @@ public class MetricFilter extends AbstractGatewayFilterFactory<Object> {
      */
     @Override
     public GatewayFilter apply(Object config) {
-        return (exchange, chain) -> {
-            long startTime = System.currentTimeMillis();
-            String path = exchange.getRequest().getPath().value();
-            String method = exchange.getRequest().getMethod().name();
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long startTime = System.nanoTime();
+            RequestTimings timings = RequestTimings.start(exchange);
 
             return chain.filter(exchange)
                 .doFinally(signalType -> {
-                    long endTime = System.currentTimeMillis();
-                    long duration = endTime - startTime;
+                    long duration = System.nanoTime() - startTime;
+                    HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
 
+                    RouteMeters perRoute = routeMetersFor(exchange);
+                    RequestMeters meters = perRoute.get(exchange.getRequest().getMethod().name(), statusCode);
                     // 응답시간 기록
-                    Timer.builder("gateway.request.duration")
-                        .tag("path", path)
-                        .tag("method", method)
-                        .tag("status", exchange.getResponse().getStatusCode().toString())
-                        .register(meterRegistry)
-                        .record(duration, TimeUnit.MILLISECONDS);
-
+                    meters.timer().record(duration, TimeUnit.NANOSECONDS);
                     // 요청 수 카운트
-                    Counter.builder("gateway.request.count")
-                        .tag("path", path)
-                        .tag("method", method)
-                        .tag("status", exchange.getResponse().getStatusCode().toString())
-                        .register(meterRegistry)
-                        .increment();
-
-                    log.info("Request: {} {} 가 {}ms 안에 완료됨. 상태 코드: {}",
-                        method, path, duration,
-                        exchange.getResponse().getStatusCode());
+                    meters.counter().increment();
+                    // 구간별 시간 기록
+                    perRoute.auth.record(timings.authNanos(), TimeUnit.NANOSECONDS);
+                    perRoute.upstream.record(timings.upstreamNanos(), TimeUnit.NANOSECONDS);
+                    perRoute.gateway.record(timings.gatewayNanos(duration), TimeUnit.NANOSECONDS);
+
+                    // 클라이언트가 취소한 요청은 SLO 에 반영하지 않음
+                    if (signalType != SignalType.CANCEL) {
+                        recordSlo(exchange, duration, timings, signalType == SignalType.ON_ERROR
+                            || (statusCode != null && statusCode.is5xxServerError()));
+                    }
                 });
-        };
+        }, FilterOrder.METRIC);
+    }
+
+    private RouteMeters routeMetersFor(ServerWebExchange exchange) {
+        String routeTag = routeTagOf(exchange);
+        RouteMeters meters = routeMeters.get(routeTag);
+        if (meters == null) {
+            // 태그 값의 종류가 상한에 도달하면 이후 라우트는 하나의 태그로 묶음
+            String tag = routeMeters.size() < maxRouteTags ? routeTag : OVERFLOW_TAG;
+            meters = routeMeters.computeIfAbsent(tag, RouteMeters::new);
+        }
+        return meters;
+    }
+
+    private void recordSlo(ServerWebExchange exchange, long duration, RequestTimings timings, boolean error) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !(route.getMetadata().get(Slo.METADATA_KEY) instanceof Slo slo)) {
+            return;
+        }
+        sloTracker.record(route.getId(), slo, duration, timings.authNanos(), timings.upstreamNanos(), error);
+    }
+
+    private String routeTagOf(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            return route.getId();
+        }
+        return pathTemplateOf(exchange.getRequest().getPath().value());
+    }
+
+    /**
+     * 라우트가 없는 요청은 첫 번째 경로 세그먼트만 남긴 템플릿으로 정규화
+     * ex) /live-lecture/123 -> /live-lecture/**
+     */
+    static String pathTemplateOf(String path) {
+        if (path == null || path.length() <= 1) {
+            return "/";
+        }
+        int end = path.indexOf('/', 1);
+        return (end < 0 ? path : path.substring(0, end)) + "/**";
+    }
+
+    private record RequestMeters(Timer timer, Counter counter) {
+    }
+
+    private record MethodMeters(String method, AtomicReferenceArray<RequestMeters> byStatus) {
+    }
+
+    private final class RouteMeters {
+
+        private final String route;
+        private final ConcurrentHashMap<String, MethodMeters> byMethod = new ConcurrentHashMap<>();
+        private final Timer auth;
+        private final Timer upstream;
+        private final Timer gateway;
+
+        private RouteMeters(String route) {
+            this.route = route;
+            this.auth = phaseTimer("auth");
+            this.upstream = phaseTimer("upstream");
+            this.gateway = phaseTimer("gateway");
+        }
+
+        private RequestMeters get(String method, HttpStatusCode statusCode) {
+            MethodMeters methodMeters = byMethod.get(method);
+            if (methodMeters == null) {
+                String methodTag = KNOWN_METHODS.contains(method) ? method : OVERFLOW_TAG;
+                methodMeters = byMethod.computeIfAbsent(methodTag,
+                    tag -> new MethodMeters(tag, new AtomicReferenceArray<>(STATUS_SLOTS)));
+            }
+
+            // 상태 코드가 없거나 범위를 벗어나면 0번 슬롯(NONE)을 사용
+            int slot = statusCode == null ? 0 : statusCode.value();
+            if (slot < 0 || slot >= STATUS_SLOTS) {
+                slot = 0;
+            }
+
+            AtomicReferenceArray<RequestMeters> byStatus = methodMeters.byStatus();
+            RequestMeters meters = byStatus.get(slot);
+            if (meters == null) {
+                String statusTag = slot == 0 ? UNKNOWN_STATUS_TAG : String.valueOf(slot);
+                meters = register(methodMeters.method(), statusTag);
+                // 같은 태그 조합이면 레지스트리가 같은 meter 를 돌려주므로 경합해도 안전
+                byStatus.compareAndSet(slot, null, meters);
+            }
+            return meters;
+        }
+
+        private RequestMeters register(String method, String status) {
+            Timer timer = Timer.builder("gateway.request.duration")
+                .tag("route", route)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry);
+            Counter counter = Counter.builder("gateway.request.count")
+                .tag("route", route)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry);
+            return new RequestMeters(timer, counter);
+        }
+
+        private Timer phaseTimer(String phase) {
+            return Timer.builder("gateway.request.phase")
+                .description("요청 처리 시간 중 인증(auth), 업스트림(upstream), 게이트웨이 자체(gateway) 구간")
+                .tag("route", route)
+                .tag("phase", phase)
+                .register(meterRegistry);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.constants.FilterOrder;
+import com.yoganavi.gateway.ratelimit.InMemoryRateLimitStore;
+import com.yoganavi.gateway.ratelimit.RateLimit;
+import com.yoganavi.gateway.ratelimit.RateLimitStore;
+import com.yoganavi.gateway.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 기반 요청 한도 필터
+ * <p>
+ * 인증된 요청은 회원 id, 공개 라우트 요청은 클라이언트 IP 를 키로 라우트별 한도를 적용한다.
+ * JwtAuthenticationFilter 뒤에 두어야 회원 id 를 사용할 수 있다.
+ * 한도를 넘으면 429 와 Retry-After(초)를 응답한다.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final RateLimitStore rateLimitStore;
+    // 공유 저장소 빈이 없을 때 만든 노드 로컬 저장소 (정리 작업을 이 필터가 관리)
+    private final InMemoryRateLimitStore localStore;
+    private final Duration sweepInterval;
+    private final MeterRegistry meterRegistry;
+    private final boolean useForwardedFor;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(ObjectProvider<RateLimitStore> rateLimitStores,
+                           MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${gateway.rate-limit.sweep-interval:1s}") Duration sweepInterval,
+                           @Value("${gateway.rate-limit.use-forwarded-for:false}") boolean useForwardedFor) {
+        super(Config.class);
+        // 공유 저장소 빈이 등록되어 있으면 사용하고, 없으면 노드 로컬 저장소 사용
+        RateLimitStore shared = rateLimitStores.getIfUnique();
+        this.localStore = shared == null ? new InMemoryRateLimitStore(maxKeys) : null;
+        this.rateLimitStore = shared != null ? shared : localStore;
+        this.sweepInterval = sweepInterval;
+        this.meterRegistry = meterRegistry;
+        this.useForwardedFor = useForwardedFor;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (localStore != null) {
+            localStore.start(sweepInterval);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (localStore != null) {
+            localStore.stop();
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 한도 객체는 필터 생성 시 한 번만 계산
+        RateLimit defaultLimit = RateLimit.of(config.getCapacity(), config.getRefillPerSecond());
+        Map<String, RateLimit> roleLimits = new HashMap<>();
+        config.getRoleLimits().forEach((role, limit) ->
+            roleLimits.put(role, RateLimit.of(limit.getCapacity(), limit.getRefillPerSecond())));
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+            JwtUtil.TokenPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+
+            String key;
+            RateLimit limit = defaultLimit;
+            if (principal != null) {
+                key = routeId + ":m:" + principal.userId();
+                if (principal.role() != null) {
+                    limit = roleLimits.getOrDefault(principal.role(), defaultLimit);
+                }
+            } else {
+                key = routeId + ":ip:" + clientAddressOf(exchange);
+            }
+
+            return rateLimitStore.tryAcquire(key, limit)
+                .flatMap(waitNanos -> {
+                    if (waitNanos == 0L) {
+                        return chain.filter(exchange);
+                    }
+                    rejectedCounter(routeId).increment();
+                    log.debug("gateway - 요청 한도 초과: {}", key);
+                    return reject(exchange, waitNanos);
+                });
+        }, FilterOrder.RATE_LIMIT);
+    }
+
+    private String clientAddressOf(ServerWebExchange exchange) {
+        if (useForwardedFor) {
+            String forwardedFor = exchange.getRequest().getHeaders().getFirst("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isEmpty()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+            ? remoteAddress.getAddress().getHostAddress()
+            : remoteAddress.getHostString();
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+            / TimeUnit.SECONDS.toNanos(1));
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    private Counter rejectedCounter(String routeId) {
+        return rejectedCounters.computeIfAbsent(routeId, id -> Counter.builder("gateway.rate-limit.rejected")
+            .tag("route", id)
+            .register(meterRegistry));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 버킷 크기 (연속 허용 요청 수)
+        private long capacity = 20;
+        // 초당 충전 토큰 수
+        private double refillPerSecond = 10;
+        // role 별 한도 (없으면 기본 한도)
+        private Map<String, Limit> roleLimits = new HashMap<>();
+
+        public Config limit(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            return this;
+        }
+
+        public Config roleLimit(String role, long capacity, double refillPerSecond) {
+            Limit limit = new Limit();
+            limit.setCapacity(capacity);
+            limit.setRefillPerSecond(refillPerSecond);
+            this.roleLimits.put(role, limit);
+            return this;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
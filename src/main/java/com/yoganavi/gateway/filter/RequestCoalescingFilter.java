@@ -0,0 +1,151 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.cache.BodyCapturingResponse;
+import com.yoganavi.gateway.cache.CacheKeys;
+import com.yoganavi.gateway.cache.CachedResponse;
+import com.yoganavi.gateway.constants.FilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일한 GET 요청을 하나의 업스트림 호출로 합치는 필터 (single-flight)
+ * <p>
+ * 같은 키(라우트, 경로, 쿼리, 공유 범위)의 요청이 처리 중이면 뒤따라온 요청은 업스트림을 호출하지 않고
+ * 먼저 온 요청(leader)의 응답 본문을 받아 그대로 응답한다. 기본 공유 범위는 role 이다.
+ * 업스트림은 신원 헤더(X-Member-Id)로 회원별 응답을 만들 수 있으므로, 인증된 요청의 응답을 다른 회원에게 넘기는 것은
+ * 업스트림이 Cache-Control 의 public, s-maxage, must-revalidate 로 공유를 허용한 경우뿐이다 (응답 캐시와 같은 규칙).
+ * leader 의 응답이 2xx 가 아니거나, maxBodySize 를 넘거나, 공유하면 안 되는 응답(Set-Cookie, private)이면
+ * 기다리던 요청은 응답 헤더가 확정되는 즉시 각자 업스트림으로 프록시된다. maxWait 안에 응답이 없어도 마찬가지다.
+ */
+@Component
+@Slf4j
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final Counter fallthrough;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.coalesced = Counter.builder("gateway.coalesce.shared")
+            .description("leader 의 응답을 공유받은 요청 수")
+            .register(meterRegistry);
+        this.fallthrough = Counter.builder("gateway.coalesce.fallthrough")
+            .description("공유할 응답이 없어 직접 프록시된 대기 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.coalesce.in-flight", inFlight, Map::size)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+                return chain.filter(exchange);
+            }
+            String key = CacheKeys.of(exchange, config.getScope());
+            if (key == null) {
+                return chain.filter(exchange);
+            }
+
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+            if (leader != null) {
+                return follow(exchange, chain, leader, config.getMaxWait());
+            }
+            // 회원별로 합치면 같은 회원에게만 응답하므로 인증된 응답도 공유
+            boolean acrossMembers = config.getScope() != CacheKeys.Scope.MEMBER
+                && (exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR) != null
+                || exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION));
+            return lead(exchange, chain, key, sink, config.getMaxBodySize(), acrossMembers);
+        }, FilterOrder.REQUEST_COALESCING);
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                            Sinks.One<CachedResponse> sink, int maxBodySize, boolean acrossMembers) {
+        BodyCapturingResponse response = new BodyCapturingResponse(exchange.getResponse(), maxBodySize,
+            r -> isShareable(r, acrossMembers),
+            (headers, body) -> {
+                inFlight.remove(key, sink);
+                long now = System.currentTimeMillis();
+                sink.tryEmitValue(CachedResponse.of(exchange.getResponse().getStatusCode(),
+                    headers, body, now, now, now));
+            },
+            () -> release(key, sink));
+
+        // 본문 쓰기까지 끝났는데 아직 풀리지 않았다면(오류, 취소, 본문 없음) 여기서 풀어줌
+        return chain.filter(exchange.mutate().response(response).build())
+            .doFinally(signal -> release(key, sink));
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                              Sinks.One<CachedResponse> leader, Duration maxWait) {
+        return leader.asMono()
+            .timeout(maxWait, Mono.empty())
+            .flatMap(shared -> {
+                coalesced.increment();
+                return shared.writeTo(exchange.getResponse()).thenReturn(Boolean.TRUE);
+            })
+            .switchIfEmpty(Mono.defer(() -> {
+                fallthrough.increment();
+                return chain.filter(exchange).thenReturn(Boolean.TRUE);
+            }))
+            .then();
+    }
+
+    // 공유할 응답 없이 leader 가 끝난 경우 대기 중인 요청을 풀어줌
+    private void release(String key, Sinks.One<CachedResponse> sink) {
+        if (inFlight.remove(key, sink)) {
+            sink.tryEmitEmpty();
+        }
+    }
+
+    private static boolean isShareable(ServerHttpResponse response, boolean acrossMembers) {
+        if (response.getStatusCode() == null || !response.getStatusCode().is2xxSuccessful()) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        String cacheControl = headers.getCacheControl();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)
+            || (cacheControl != null && cacheControl.toLowerCase().contains("private"))) {
+            return false;
+        }
+        return !acrossMembers || ResponseCacheFilter.allowsSharedStorage(cacheControl);
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // ROLE, MEMBER 는 인증된 요청만 합침
+        private CacheKeys.Scope scope = CacheKeys.Scope.ROLE;
+        // 이 크기를 넘는 응답은 공유하지 않음
+        private int maxBodySize = 256 * 1024;
+        // leader 응답을 기다리는 최대 시간
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        public Config scope(CacheKeys.Scope scope) {
+            this.scope = scope;
+            return this;
+        }
+    }
+}
@@ -1,49 +1,112 @@
 package com.yoganavi.gateway.filter;
 
+import com.yoganavi.gateway.constants.FilterOrder;
+import com.yoganavi.gateway.logging.AccessLogRecord;
+import com.yoganavi.gateway.logging.AccessLogWriter;
+import com.yoganavi.gateway.tracing.TraceTimeline;
+import com.yoganavi.gateway.util.JwtUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
+import org.springframework.web.server.ServerWebExchange;
 
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청당 하나의 접근 로그를 남기는 필터
+ * <p>
+ * 로그는 AccessLogWriter 의 버퍼에 넣기만 하고 실제 기록은 백그라운드 스레드에서 수행한다.
+ * 헤더는 샘플링된 요청이나 지정된 라우트에서만 기록하며, 민감한 헤더 값은 마스킹한다.
+ */
 @Component
 @Slf4j
 public class RequestLoggingFilter extends AbstractGatewayFilterFactory<Object> {
 
-    public RequestLoggingFilter() {
+    private static final List<String> REDACTED = List.of("***");
+
+    private final AccessLogWriter accessLogWriter;
+    private final double headerSampleRate;
+    private final Set<String> headerRoutes;
+    private final Set<String> redactedHeaders;
+
+    public RequestLoggingFilter(AccessLogWriter accessLogWriter,
+                                @Value("${gateway.access-log.header-sample-rate:0.0}") double headerSampleRate,
+                                @Value("${gateway.access-log.header-routes:}") List<String> headerRoutes,
+                                @Value("${gateway.access-log.redacted-headers:Authorization,Cookie,Set-Cookie,Refresh-Token}")
+                                List<String> redactedHeaders) {
         super(Object.class);
+        this.accessLogWriter = accessLogWriter;
+        this.headerSampleRate = headerSampleRate;
+        this.headerRoutes = Set.copyOf(headerRoutes);
+        this.redactedHeaders = redactedHeaders.stream()
+            .map(String::toLowerCase)
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     @Override
     public GatewayFilter apply(Object config) {
-        return (exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            String requestPath = request.getPath().value();
-            String requestMethod = request.getMethod().name();
-            String requestId = request.getId();
-
-            // 요청 시작 로그
-            log.info("[{}] >>> 요청 시작: {} {}", requestId, requestMethod, requestPath);
-            request.getHeaders().forEach((key, value) ->
-                log.debug("[{}] 요청 헤더 - {}: {}", requestId, key, value));
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long startMillis = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
 
             return chain.filter(exchange)
-                .then(Mono.fromRunnable(() -> {
-                    ServerHttpResponse response = exchange.getResponse();
-                    // 응답 완료 로그
-                    log.info("[{}] <<< 응답 완료: {} {} - Status: {}",
-                        requestId,
-                        requestMethod,
-                        requestPath,
-                        response.getStatusCode());
-
-                    if (log.isDebugEnabled()) {
-                        response.getHeaders().forEach((key, value) ->
-                            log.debug("[{}] 응답 헤더 - {}: {}", requestId, key, value));
-                    }
-                }));
-        };
+                .doFinally(signalType -> accessLogWriter.write(
+                    toRecord(exchange, startMillis, System.nanoTime() - startNanos)));
+        }, FilterOrder.REQUEST_LOGGING);
+    }
+
+    private AccessLogRecord toRecord(ServerWebExchange exchange, long startMillis, long durationNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        JwtUtil.TokenPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+
+        boolean logHeaders = shouldLogHeaders(routeId);
+
+        return new AccessLogRecord(
+            startMillis,
+            request.getId(),
+            TraceTimeline.traceId(exchange),
+            request.getMethod().name(),
+            request.getPath().value(),
+            routeId,
+            status != null ? status.value() : 0,
+            TimeUnit.NANOSECONDS.toMicros(durationNanos),
+            principal != null ? principal.userId() : null,
+            remoteAddress != null ? remoteAddress.getHostString() : null,
+            logHeaders ? redact(request.getHeaders()) : null,
+            logHeaders ? redact(exchange.getResponse().getHeaders()) : null);
+    }
+
+    private boolean shouldLogHeaders(String routeId) {
+        if (routeId != null && headerRoutes.contains(routeId)) {
+            return true;
+        }
+        return headerSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < headerSampleRate;
+    }
+
+    // 백그라운드 스레드에서 읽으므로 복사본을 만들면서 민감 헤더를 마스킹
+    private Map<String, List<String>> redact(HttpHeaders headers) {
+        Map<String, List<String>> copy = new LinkedHashMap<>(headers.size());
+        headers.forEach((name, values) -> copy.put(name,
+            redactedHeaders.contains(name.toLowerCase()) ? REDACTED : List.copyOf(values)));
+        return copy;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.constants.FilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 요청 본문 크기 제한 필터
+ * <p>
+ * Content-Length 가 한도를 넘으면 업스트림 커넥션을 잡기 전에 바로 413 으로 응답한다.
+ * 길이를 알 수 없는 chunked 요청은 라우팅 전에 본문을 한도까지만 읽어 두고, 한도를 넘으면 413 으로 응답한다.
+ * 업스트림 호출 중에 거절하면 서킷 브레이커와 로드밸런서가 정상 인스턴스의 실패로 기록하므로 스트리밍 중에는 검사하지 않는다.
+ * 따라서 chunked 요청은 요청당 최대 한도만큼 메모리를 사용한다.
+ * 거절 수는 gateway.request-size.rejected{route} 로 기록한다.
+ */
+@Component
+@Slf4j
+public class RequestSizeLimitFilter extends AbstractGatewayFilterFactory<RequestSizeLimitFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final DataSize defaultMaxSize;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RequestSizeLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${gateway.request-size.default-max-size:10MB}") DataSize defaultMaxSize) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxSize = defaultMaxSize;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long maxBytes = (config.getMaxSize() != null ? config.getMaxSize() : defaultMaxSize).toBytes();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            long contentLength = request.getHeaders().getContentLength();
+            if (contentLength > maxBytes) {
+                return reject(exchange, contentLength, maxBytes);
+            }
+            // 길이를 알고 있거나 본문이 없는 요청
+            if (contentLength >= 0 || !request.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+                return chain.filter(exchange);
+            }
+
+            ServerHttpRequest limited = new ServerHttpRequestDecorator(request) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    AtomicLong received = new AtomicLong();
+                    return super.getBody().handle((buffer, sink) -> {
+                        if (received.addAndGet(buffer.readableByteCount()) > maxBytes) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(new BodyTooLargeException());
+                            return;
+                        }
+                        sink.next(buffer);
+                    });
+                }
+            };
+            // 본문을 모두 읽은 뒤에는 캐시한 본문을 전달하므로 BodyTooLargeException 은 라우팅 전에만 발생
+            return ServerWebExchangeUtils.cacheRequestBody(exchange.mutate().request(limited).build(),
+                    buffered -> chain.filter(exchange.mutate().request(buffered).build()))
+                .onErrorResume(BodyTooLargeException.class, e -> reject(exchange, -1, maxBytes));
+        }, FilterOrder.REQUEST_SIZE_LIMIT);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long contentLength, long maxBytes) {
+        rejectedCounter(routeIdOf(exchange)).increment();
+        // chunked 요청은 contentLength 가 -1
+        log.debug("gateway - 요청 본문 크기 초과: {} > {} bytes", contentLength, maxBytes);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        // 읽지 않은 본문이 남은 커넥션은 재사용하지 않음
+        response.getHeaders().set(HttpHeaders.CONNECTION, "close");
+        return response.setComplete();
+    }
+
+    private static String routeIdOf(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private Counter rejectedCounter(String routeId) {
+        return rejectedCounters.computeIfAbsent(routeId, id -> Counter.builder("gateway.request-size.rejected")
+            .tag("route", id)
+            .register(meterRegistry));
+    }
+
+    private static class BodyTooLargeException extends RuntimeException {
+
+        BodyTooLargeException() {
+            super("request body too large", null, false, false);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // null 이면 gateway.request-size.default-max-size
+        private DataSize maxSize;
+
+        public Config maxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.cache.BodyCapturingResponse;
+import com.yoganavi.gateway.cache.CacheKeys;
+import com.yoganavi.gateway.cache.CachedResponse;
+import com.yoganavi.gateway.cache.ResponseCacheStore;
+import com.yoganavi.gateway.constants.FilterOrder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * GET 응답 캐시 필터
+ * <p>
+ * - 응답의 Cache-Control(no-store, private, max-age, s-maxage)을 따르고, 지시자가 없으면 Config.ttl 사용
+ * - 인증된 요청의 응답은 회원별 캐시가 아니면 업스트림이 public, s-maxage, must-revalidate 로 공유를 허용한 경우에만 저장 (RFC 9111 3.5)
+ * - Vary 가 있는 응답은 저장하지 않음. 단 압축되지 않은 본문의 Vary: Accept-Encoding 은 압축 필터가 응답마다 다시 협상하므로 허용
+ * - 요청의 Cache-Control: no-cache / no-store 는 캐시를 거치지 않음
+ * - If-None-Match 가 캐시된 ETag 와 일치하면 304 응답 (업스트림 ETag 가 없으면 본문 CRC 로 생성)
+ * - scope 로 캐시 공유 범위 지정 (전체 / role / 회원)
+ * - 적중률과 제거 수는 gateway.cache.* 메트릭(cache=response)으로 기록
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheStore cacheStore;
+    private final int maxBodySize;
+
+    public ResponseCacheFilter(@Qualifier("responseCacheStore") ResponseCacheStore cacheStore,
+                               @Value("${gateway.response-cache.max-body-size:1048576}") int maxBodySize) {
+        super(Config.class);
+        this.cacheStore = cacheStore;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long defaultTtlMillis = config.getTtl().toMillis();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+                return chain.filter(exchange);
+            }
+            String key = CacheKeys.of(exchange, config.getScope());
+            if (key == null) {
+                return chain.filter(exchange);
+            }
+
+            String requestCacheControl = exchange.getRequest().getHeaders().getCacheControl();
+            if (hasDirective(requestCacheControl, "no-store")) {
+                return chain.filter(exchange);
+            }
+
+            if (!hasDirective(requestCacheControl, "no-cache")) {
+                long now = System.currentTimeMillis();
+                CachedResponse cached = cacheStore.get(key, now);
+                if (cached != null && cached.isFresh(now)) {
+                    return writeCached(exchange, cached, now);
+                }
+            }
+
+            boolean memberScoped = config.getScope() == CacheKeys.Scope.MEMBER;
+            boolean authenticated = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR) != null
+                || exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+            BodyCapturingResponse response = new BodyCapturingResponse(exchange.getResponse(), maxBodySize,
+                r -> isCacheable(r, memberScoped, authenticated),
+                (headers, body) -> store(key, exchange.getResponse(), headers, body, defaultTtlMillis));
+            response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            return chain.filter(exchange.mutate().response(response).build());
+        }, FilterOrder.RESPONSE_CACHE);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        String age = Long.toString(TimeUnit.MILLISECONDS.toSeconds(now - cached.storedAt()));
+
+        if (matchesIfNoneMatch(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.setETag(cached.etag());
+            String cacheControl = cached.headers().getCacheControl();
+            if (cacheControl != null) {
+                headers.setCacheControl(cacheControl);
+            }
+            headers.set(HttpHeaders.AGE, age);
+            headers.set(CACHE_STATUS_HEADER, "HIT");
+            return response.setComplete();
+        }
+
+        headers.set(HttpHeaders.AGE, age);
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        return cached.writeTo(response);
+    }
+
+    private void store(String key, ServerHttpResponse response, HttpHeaders headers, byte[] body,
+                       long defaultTtlMillis) {
+        long ttlMillis = ttlOf(headers.getCacheControl(), defaultTtlMillis);
+        if (ttlMillis <= 0) {
+            return;
+        }
+        if (headers.getETag() == null) {
+            // 업스트림이 ETag 를 주지 않으면 본문으로 약한 ETag 생성 (이번 응답에는 이미 헤더가 나간 뒤)
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            headers.setETag("W/\"" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"");
+        }
+        long now = System.currentTimeMillis();
+        cacheStore.put(key, CachedResponse.of(response.getStatusCode(), headers, body,
+            now, now + ttlMillis, now + ttlMillis));
+    }
+
+    private static boolean isCacheable(ServerHttpResponse response, boolean memberScoped, boolean authenticated) {
+        if (response.getStatusCode() == null || response.getStatusCode().value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || !isVaryCovered(headers)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "no-cache")) {
+            return false;
+        }
+        // 회원별 캐시는 같은 회원에게만 응답하므로 private, 인증된 응답도 저장
+        if (memberScoped) {
+            return true;
+        }
+        if (hasDirective(cacheControl, "private")) {
+            return false;
+        }
+        return !authenticated || allowsSharedStorage(cacheControl);
+    }
+
+    /**
+     * 인증된 요청의 응답을 다른 회원과 공유해도 되는지 (RFC 9111 3.5). 요청 합치기에도 같은 규칙을 사용
+     */
+    static boolean allowsSharedStorage(String cacheControl) {
+        return hasDirective(cacheControl, "public")
+            || hasDirective(cacheControl, "s-maxage")
+            || hasDirective(cacheControl, "must-revalidate");
+    }
+
+    // 캐시 키에 요청 헤더가 들어가지 않으므로 Vary 가 있으면 다른 요청에 맞지 않는 응답일 수 있음
+    private static boolean isVaryCovered(HttpHeaders headers) {
+        List<String> vary = headers.getVary();
+        if (vary.isEmpty()) {
+            return true;
+        }
+        return !headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+            && vary.stream().allMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase);
+    }
+
+    /**
+     * s-maxage 가 있으면 우선, 없으면 max-age, 둘 다 없으면 기본 TTL
+     */
+    static long ttlOf(String cacheControl, long defaultTtlMillis) {
+        if (cacheControl == null) {
+            return defaultTtlMillis;
+        }
+        long maxAge = -1;
+        for (String directive : cacheControl.split(",")) {
+            String d = directive.trim().toLowerCase();
+            if (d.startsWith("s-maxage=")) {
+                return parseSeconds(d.substring("s-maxage=".length()));
+            }
+            if (d.startsWith("max-age=")) {
+                maxAge = parseSeconds(d.substring("max-age=".length()));
+            }
+        }
+        return maxAge >= 0 ? maxAge : defaultTtlMillis;
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        return cacheControl != null && cacheControl.toLowerCase().contains(directive);
+    }
+
+    private static boolean matchesIfNoneMatch(List<String> ifNoneMatch, String etag) {
+        if (etag == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        String opaque = weakless(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || weakless(candidate).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String weakless(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 응답에 max-age 가 없을 때 사용할 TTL
+        private Duration ttl = Duration.ofSeconds(30);
+        private CacheKeys.Scope scope = CacheKeys.Scope.ROLE;
+
+        public Config ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Config scope(CacheKeys.Scope scope) {
+            this.scope = scope;
+            return this;
+        }
+    }
+}
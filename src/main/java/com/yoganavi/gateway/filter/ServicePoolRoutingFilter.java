@@ -0,0 +1,50 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.config.ServiceHttpClients;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * lb:// 라우트를 서비스별 커넥션 풀로 프록시하는 라우팅 필터
+ * <p>
+ * 기본 NettyRoutingFilter 와 동작은 같고, 사용할 HttpClient 만 라우트의 서비스 id 로 고른다.
+ * 기본 필터는 spring.cloud.gateway.global-filter.netty-routing.enabled=false 로 비활성화한다.
+ */
+public class ServicePoolRoutingFilter extends NettyRoutingFilter {
+
+    private final ServiceHttpClients serviceHttpClients;
+
+    public ServicePoolRoutingFilter(HttpClient httpClient,
+                                    ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                    HttpClientProperties properties,
+                                    ServiceHttpClients serviceHttpClients) {
+        super(httpClient, headersFiltersProvider, properties);
+        this.serviceHttpClients = serviceHttpClients;
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        URI routeUri = route.getUri();
+        if (routeUri == null || !"lb".equals(routeUri.getScheme()) || routeUri.getHost() == null) {
+            return super.getHttpClient(route, exchange);
+        }
+        HttpClient client = serviceHttpClients.forService(routeUri.getHost());
+        // 라우트 메타데이터의 connect-timeout 은 기본 필터와 동일하게 적용
+        Object connectTimeout = route.getMetadata().get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR);
+        if (connectTimeout != null) {
+            client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                Integer.parseInt(String.valueOf(connectTimeout)));
+        }
+        return client;
+    }
+}
@@ -0,0 +1,100 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.cache.BodyCapturingResponse;
+import com.yoganavi.gateway.cache.CacheKeys;
+import com.yoganavi.gateway.cache.CachedResponse;
+import com.yoganavi.gateway.cache.ResponseCacheStore;
+import com.yoganavi.gateway.constants.FilterOrder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 정상 GET 응답을 보관해 두었다가 서킷이 열렸을 때 fallback 에서 사용할 수 있게 하는 필터
+ * <p>
+ * circuitBreaker 필터보다 앞에 두어야 한다. 저장 키는 {@link #STALE_KEY_ATTR} 속성으로 fallback 에 전달된다.
+ */
+@Component
+public class StaleIfErrorFilter extends AbstractGatewayFilterFactory<StaleIfErrorFilter.Config> {
+
+    public static final String STALE_KEY_ATTR = StaleIfErrorFilter.class.getName() + ".key";
+
+    /**
+     * fallback 이 응답했음을 표시하는 속성. 표시된 응답은 다시 저장하지 않음
+     */
+    public static final String FALLBACK_SERVED_ATTR = StaleIfErrorFilter.class.getName() + ".fallback";
+
+    private final ResponseCacheStore staleStore;
+    private final int maxBodySize;
+
+    public StaleIfErrorFilter(@Qualifier("staleResponseStore") ResponseCacheStore staleStore,
+                              @Value("${gateway.stale-cache.max-body-size:262144}") int maxBodySize) {
+        super(Config.class);
+        this.staleStore = staleStore;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long staleTtlMillis = config.getTtl().toMillis();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+                return chain.filter(exchange);
+            }
+            String key = CacheKeys.of(exchange, config.getScope());
+            if (key == null) {
+                return chain.filter(exchange);
+            }
+            exchange.getAttributes().put(STALE_KEY_ATTR, key);
+
+            BodyCapturingResponse response = new BodyCapturingResponse(exchange.getResponse(), maxBodySize,
+                r -> isStorable(r) && !exchange.getAttributes().containsKey(FALLBACK_SERVED_ATTR),
+                (headers, body) -> {
+                    long now = System.currentTimeMillis();
+                    staleStore.put(key, CachedResponse.of(exchange.getResponse().getStatusCode(),
+                        headers, body, now, now, now + staleTtlMillis));
+                });
+            return chain.filter(exchange.mutate().response(response).build());
+        }, FilterOrder.STALE_IF_ERROR);
+    }
+
+    private static boolean isStorable(ServerHttpResponse response) {
+        if (response.getStatusCode() == null || response.getStatusCode().value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        String cacheControl = response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !cacheControl.contains(CacheControl.noStore().getHeaderValue());
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 마지막 정상 응답을 보관하는 기간
+        private Duration ttl = Duration.ofMinutes(10);
+        private CacheKeys.Scope scope = CacheKeys.Scope.MEMBER;
+
+        public Config ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Config scope(CacheKeys.Scope scope) {
+            this.scope = scope;
+            return this;
+        }
+    }
+}
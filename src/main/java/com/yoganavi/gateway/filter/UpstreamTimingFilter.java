@@ -0,0 +1,36 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.slo.RequestTimings;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 구간 시간 측정
+ * <p>
+ * 응답 본문을 쓰는 NettyWriteResponseFilter 바로 바깥에서 실행되므로, 인스턴스 선택부터 커넥션 획득,
+ * 업스트림 응답과 본문 전송, 서킷 브레이커와 재시도까지 업스트림 구간으로 측정된다.
+ * 그보다 앞선 라우트 필터(인증, 요청 한도, 캐시 등)는 게이트웨이 구간에 남는다.
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getAttribute(RequestTimings.ATTR) == null) {
+            return chain.filter(exchange);
+        }
+        long startTime = System.nanoTime();
+        return chain.filter(exchange)
+            .doFinally(signal -> RequestTimings.addUpstream(exchange, System.nanoTime() - startTime));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+}
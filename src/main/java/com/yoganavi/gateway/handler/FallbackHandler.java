@@ -0,0 +1,86 @@
+package com.yoganavi.gateway.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.gateway.cache.CachedResponse;
+import com.yoganavi.gateway.cache.ResponseCacheStore;
+import com.yoganavi.gateway.filter.StaleIfErrorFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서킷 브레이커 fallback 처리
+ * <p>
+ * - GET 요청은 StaleIfErrorFilter 가 보관한 마지막 정상 응답이 있으면 그대로 응답 (stale-if-error)
+ * - 그 외에는 미리 만들어 둔 503 응답과 Retry-After 헤더로 응답
+ */
+@Slf4j
+@Component
+public class FallbackHandler {
+
+    static final List<String> SERVICES = List.of("user", "live-lecture", "recorded-lecture", "signaling");
+
+    private final ResponseCacheStore staleStore;
+    private final String retryAfterSeconds;
+    private final Map<String, byte[]> unavailableBodies = new LinkedHashMap<>();
+
+    public FallbackHandler(@Qualifier("staleResponseStore") ResponseCacheStore staleStore,
+                           @Value("${gateway.fallback.retry-after-seconds:5}") int retryAfterSeconds,
+                           ObjectMapper objectMapper) throws JsonProcessingException {
+        this.staleStore = staleStore;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        // 503 응답 본문은 서비스별로 시작 시 한 번만 생성
+        for (String service : SERVICES) {
+            Map<String, String> errorDetails = new LinkedHashMap<>();
+            errorDetails.put("status", "SERVICE_UNAVAILABLE");
+            errorDetails.put("error", HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+            errorDetails.put("message", service + " 서비스를 일시적으로 사용할 수 없습니다");
+            unavailableBodies.put(service, objectMapper.writeValueAsBytes(errorDetails));
+        }
+    }
+
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        String service = request.pathVariable("service");
+        Throwable cause = request.exchange().getAttribute(
+            ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        log.warn("gateway - {} fallback 실행: {}", service, cause != null ? cause.toString() : "unknown");
+
+        if (HttpMethod.GET.equals(request.method())) {
+            String key = request.exchange().getAttribute(StaleIfErrorFilter.STALE_KEY_ATTR);
+            CachedResponse stale = key != null ? staleStore.get(key, System.currentTimeMillis()) : null;
+            if (stale != null) {
+                request.exchange().getAttributes().put(StaleIfErrorFilter.FALLBACK_SERVED_ATTR, Boolean.TRUE);
+                return ServerResponse.status(stale.status())
+                    .headers(headers -> {
+                        headers.addAll(stale.headers());
+                        headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+                    })
+                    .bodyValue(stale.body());
+            }
+        }
+
+        byte[] body = unavailableBodies.get(service);
+        if (body == null) {
+            return ServerResponse.notFound().build();
+        }
+        request.exchange().getAttributes().put(StaleIfErrorFilter.FALLBACK_SERVED_ATTR, Boolean.TRUE);
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(body);
+    }
+}
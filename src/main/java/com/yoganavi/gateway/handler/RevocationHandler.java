@@ -0,0 +1,113 @@
+package com.yoganavi.gateway.handler;
+
+import com.yoganavi.gateway.constants.SecurityConstants;
+import com.yoganavi.gateway.revocation.Revocation;
+import com.yoganavi.gateway.revocation.RevocationList;
+import com.yoganavi.gateway.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 토큰 폐기 관리 API
+ * <p>
+ * - POST /admin/revocations: 폐기 항목 추가 (관리자 role 토큰 필요)
+ *   {"tokenId": jti, "expiresAt": 만료 시각} 또는 {"token": 액세스 토큰} 은 토큰 하나를,
+ *   {"userId": 회원 id, "revokedAt": 기준 시각(생략 시 현재)} 은 그 이전에 발급된 회원의 모든 토큰을 폐기한다.
+ * - GET /admin/revocations: 항목 수 조회
+ * 호출을 받은 노드에만 반영되므로 여러 노드에 전파하려면 RevocationFeed 구현을 사용한다.
+ */
+@Slf4j
+@Component
+public class RevocationHandler {
+
+    private final RevocationList revocationList;
+    private final JwtUtil jwtUtil;
+    private final String adminRole;
+    private final long accessTokenLifetimeMillis;
+
+    public RevocationHandler(RevocationList revocationList,
+                             JwtUtil jwtUtil,
+                             @Value("${gateway.revocation.admin-role:ADMIN}") String adminRole,
+                             @Value("${jwt.access-token-expiration}") long accessTokenLifetimeMillis) {
+        this.revocationList = revocationList;
+        this.jwtUtil = jwtUtil;
+        this.adminRole = adminRole;
+        this.accessTokenLifetimeMillis = accessTokenLifetimeMillis;
+    }
+
+    public Mono<ServerResponse> revoke(ServerRequest request) {
+        HttpStatus denied = authorize(request);
+        if (denied != null) {
+            return ServerResponse.status(denied).build();
+        }
+        return request.bodyToMono(RevocationRequest.class)
+            .flatMap(body -> {
+                Revocation revocation = toRevocation(body);
+                if (revocation == null) {
+                    return ServerResponse.badRequest()
+                        .bodyValue(Map.of("message", "tokenId, token, userId 중 하나가 필요합니다"));
+                }
+                try {
+                    revocationList.add(revocation);
+                } catch (IllegalStateException e) {
+                    log.error("gateway - 토큰 폐기 실패: {}", e.getMessage());
+                    return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .bodyValue(Map.of("message", e.getMessage()));
+                }
+                return ServerResponse.accepted().bodyValue(Map.of("status", "REVOKED"));
+            })
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.badRequest().build()));
+    }
+
+    public Mono<ServerResponse> stats(ServerRequest request) {
+        HttpStatus denied = authorize(request);
+        if (denied != null) {
+            return ServerResponse.status(denied).build();
+        }
+        return ServerResponse.ok().bodyValue(Map.of(
+            "tokens", revocationList.tokenEntries(),
+            "members", revocationList.memberEntries()));
+    }
+
+    private HttpStatus authorize(ServerRequest request) {
+        String bearer = request.headers().firstHeader(SecurityConstants.JWT_HEADER);
+        if (bearer == null || !bearer.startsWith("Bearer ")) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        JwtUtil.TokenPrincipal principal = jwtUtil.verify(jwtUtil.extractToken(bearer));
+        if (!principal.isValid() || revocationList.isRevoked(principal)) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        return adminRole.equals(principal.role()) ? null : HttpStatus.FORBIDDEN;
+    }
+
+    private Revocation toRevocation(RevocationRequest body) {
+        long now = System.currentTimeMillis();
+        if (body.token() != null) {
+            JwtUtil.TokenPrincipal principal = jwtUtil.verify(body.token());
+            if (!principal.isValid() || principal.tokenId() == null) {
+                return null;
+            }
+            return Revocation.ofToken(principal.tokenId(), principal.expiresAt());
+        }
+        if (body.tokenId() != null) {
+            // 만료 시각을 모르면 가장 늦게 만료될 수 있는 시각까지 보관
+            long expiresAt = body.expiresAt() != null ? body.expiresAt() : now + accessTokenLifetimeMillis;
+            return Revocation.ofToken(body.tokenId(), expiresAt);
+        }
+        if (body.userId() != null) {
+            return Revocation.ofMember(body.userId(), body.revokedAt() != null ? body.revokedAt() : now);
+        }
+        return null;
+    }
+
+    record RevocationRequest(String tokenId, String token, Long expiresAt, Integer userId, Long revokedAt) {
+    }
+}
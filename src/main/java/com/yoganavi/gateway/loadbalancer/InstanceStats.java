@@ -0,0 +1,100 @@
+package com.yoganavi.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스 하나의 부하 통계
+ * <p>
+ * - 처리 중인 요청 수
+ * - 시간 감쇠 EWMA 응답 시간 (peak EWMA: 더 느린 응답은 즉시 반영하고 빠른 응답은 천천히 반영)
+ * - 연속 실패 수와 제외(ejection) 만료 시각
+ * <p>
+ * 제외가 끝난 인스턴스는 응답 시간을 모르는 새 인스턴스처럼 다루어, 실패 당시의 응답 시간 때문에 다시 선택되지 못하는 일이 없게 한다.
+ */
+class InstanceStats {
+
+    // 아직 응답 시간을 모르는 인스턴스에 요청이 몰리지 않도록 처리 중인 요청이 있으면 큰 비용을 줌
+    private static final double PENALTY = (double) (Long.MAX_VALUE >> 16);
+
+    private final long decayNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastSampleNanos;
+    private int consecutiveFailures;
+    private int ejections;
+    private volatile long ejectedUntilNanos;
+
+    InstanceStats(long decayNanos) {
+        this.decayNanos = decayNanos;
+    }
+
+    void start() {
+        inFlight.incrementAndGet();
+    }
+
+    void release() {
+        inFlight.updateAndGet(current -> current > 0 ? current - 1 : 0);
+    }
+
+    /**
+     * 완료된 요청 반영
+     *
+     * @return 연속 실패 수
+     */
+    synchronized int record(long rttNanos, boolean failed, long now) {
+        release();
+        if (rttNanos >= 0) {
+            double w = weight(now);
+            ewmaNanos = rttNanos > ewmaNanos ? rttNanos : ewmaNanos * w + rttNanos * (1 - w);
+            lastSampleNanos = now;
+        }
+        if (failed) {
+            return ++consecutiveFailures;
+        }
+        consecutiveFailures = 0;
+        ejections = 0;
+        return 0;
+    }
+
+    /**
+     * 선택 비용 = 응답 시간 × (처리 중인 요청 수 + 1)
+     * <p>
+     * 응답 시간은 마지막 샘플 이후 경과 시간만큼 0 쪽으로 감쇠시켜, 느려서 요청을 받지 못한 인스턴스도 다시 시도되게 한다.
+     */
+    synchronized double cost(long now) {
+        if (ejectedUntilNanos != 0 && !isEjected(now)) {
+            ejectedUntilNanos = 0;
+            ewmaNanos = 0;
+        }
+        int pending = inFlight.get();
+        double rtt = decayed(now);
+        if (rtt == 0 && pending != 0) {
+            return PENALTY + pending;
+        }
+        return rtt * (pending + 1);
+    }
+
+    synchronized void eject(long baseNanos, long maxNanos, long now) {
+        ejections++;
+        consecutiveFailures = 0;
+        ejectedUntilNanos = now + Math.min(maxNanos, baseNanos * ejections);
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntilNanos - now > 0;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private double decayed(long now) {
+        return ewmaNanos * weight(now);
+    }
+
+    private double weight(long now) {
+        long elapsed = Math.max(0L, now - lastSampleNanos);
+        return Math.exp(-(double) elapsed / decayNanos);
+    }
+}
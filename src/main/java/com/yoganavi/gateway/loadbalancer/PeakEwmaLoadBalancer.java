@@ -0,0 +1,256 @@
+package com.yoganavi.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 시간과 부하를 반영하는 로드 밸런서
+ * <p>
+ * 인스턴스마다 처리 중인 요청 수와 peak EWMA 응답 시간을 기록하고,
+ * 무작위로 고른 두 인스턴스 중 비용(응답 시간 × (처리 중 + 1))이 낮은 쪽을 선택한다 (power of two choices).
+ * 연속으로 실패한 인스턴스는 일정 시간 후보에서 제외하며, 제외 시간은 반복될수록 늘어난다.
+ * <p>
+ * 통계는 {@link LoadBalancerLifecycle} 콜백으로 게이트웨이가 프록시한 요청에서 수집한다.
+ * 게이트웨이의 로드 밸런서 필터는 응답 본문까지 모두 보낸 뒤에 완료를 알리므로, 응답 시간은 완료 시점이 아니라
+ * 서비스별 HttpClient 가 응답 헤더를 받은 시각({@link UpstreamResponseTime})으로 계산한다.
+ * 완료 시점이 세션 종료인 WebSocket, SSE 요청은 응답 시간에 반영하지 않는다.
+ * 취소된 요청은 로드 밸런서 필터 대신 LoadBalancerCompletionFilter 가 DISCARD 로 완료를 알린다.
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+    LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final Counter ejections;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public PeakEwmaLoadBalancer(String serviceId,
+                                ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                Settings settings,
+                                MeterRegistry meterRegistry) {
+        this(serviceId, supplierProvider, settings, meterRegistry, System::nanoTime);
+    }
+
+    PeakEwmaLoadBalancer(String serviceId,
+                         ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                         Settings settings,
+                         MeterRegistry meterRegistry,
+                         LongSupplier clock) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.settings = settings;
+        this.clock = clock;
+        this.ejections = Counter.builder("gateway.lb.ejections")
+            .description("연속 실패로 후보에서 제외된 인스턴스 수")
+            .tag("service", serviceId)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("gateway - 사용 가능한 인스턴스 없음: {}", serviceId);
+            return new EmptyResponse();
+        }
+        pruneStats(instances);
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        long now = clock.getAsLong();
+        List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!statsFor(instance).isEjected(now)) {
+                candidates.add(instance);
+            }
+        }
+        // 모두 제외된 경우에는 전체 인스턴스에서 고름
+        if (candidates.isEmpty()) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(statsFor(a).cost(now) <= statsFor(b).cost(now) ? a : b);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timedContext) {
+            timedContext.setRequestStartTime(clock.getAsLong());
+        }
+        statsFor(lbResponse.getServer()).start();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        ServiceInstance instance = lbResponse.getServer();
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            statsFor(instance).release();
+            return;
+        }
+
+        ResponseData response = completionContext.getClientResponse();
+        Request<RequestDataContext> request = completionContext.getLoadBalancerRequest();
+        long rttNanos = request != null && request.getContext() != null
+            ? rttNanos(request.getContext(), response)
+            : -1L;
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+            || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        record(instance, rttNanos, failed);
+    }
+
+    /**
+     * 요청 시작부터 업스트림 응답 헤더를 받을 때까지의 시간. 반영하지 않을 요청이면 -1
+     */
+    private long rttNanos(RequestDataContext context, ResponseData response) {
+        if (context.getRequestStartTime() == 0 || isStreaming(context.getClientRequest(), response)) {
+            return -1L;
+        }
+        RequestData requestData = context.getClientRequest();
+        Object responseTime = requestData != null && requestData.getAttributes() != null
+            ? requestData.getAttributes().get(UpstreamResponseTime.ATTR)
+            : null;
+        if (responseTime instanceof UpstreamResponseTime time) {
+            // 응답 헤더를 받지 못한 요청(연결 실패 등)은 응답 시간을 반영하지 않음
+            return time.isReceived() ? time.receivedNanos() - context.getRequestStartTime() : -1L;
+        }
+        // 게이트웨이 밖에서 사용된 경우 완료 시점까지의 시간
+        return clock.getAsLong() - context.getRequestStartTime();
+    }
+
+    private static boolean isStreaming(RequestData request, ResponseData response) {
+        if (request != null && request.getHeaders() != null) {
+            HttpHeaders headers = request.getHeaders();
+            String accept = headers.getFirst(HttpHeaders.ACCEPT);
+            if (headers.containsKey(HttpHeaders.UPGRADE)
+                || (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE))) {
+                return true;
+            }
+        }
+        return response != null && response.getHeaders() != null
+            && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(response.getHeaders().getContentType());
+    }
+
+    void start(ServiceInstance instance) {
+        statsFor(instance).start();
+    }
+
+    void record(ServiceInstance instance, long rttNanos, boolean failed) {
+        long now = clock.getAsLong();
+        InstanceStats instanceStats = statsFor(instance);
+        int consecutiveFailures = instanceStats.record(rttNanos, failed, now);
+        if (consecutiveFailures >= settings.failureThreshold() && canEject(now)) {
+            instanceStats.eject(settings.ejectionNanos(), settings.maxEjectionNanos(), now);
+            ejections.increment();
+            log.warn("gateway - {} 인스턴스 {} 를 연속 실패 {}회로 일시 제외", serviceId, keyOf(instance),
+                consecutiveFailures);
+        }
+    }
+
+    // 제외된 인스턴스 비율이 상한을 넘지 않도록 함
+    private boolean canEject(long now) {
+        int total = stats.size();
+        int ejected = 0;
+        for (InstanceStats instanceStats : stats.values()) {
+            if (instanceStats.isEjected(now)) {
+                ejected++;
+            }
+        }
+        return ejected + 1 <= total * settings.maxEjectionPercent() / 100;
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        String key = keyOf(instance);
+        InstanceStats instanceStats = stats.get(key);
+        if (instanceStats != null) {
+            return instanceStats;
+        }
+        return stats.computeIfAbsent(key, k -> new InstanceStats(settings.decayNanos()));
+    }
+
+    // 레지스트리에서 사라진 인스턴스 통계 정리
+    private void pruneStats(List<ServiceInstance> instances) {
+        if (stats.size() <= instances.size() * 2) {
+            return;
+        }
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(keyOf(instance));
+        }
+        stats.keySet().retainAll(current);
+    }
+
+    private static String keyOf(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+            ? instance.getInstanceId()
+            : instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * @param decayNanos          응답 시간 EWMA 감쇠 시간
+     * @param failureThreshold    제외할 연속 실패 수
+     * @param ejectionNanos       첫 제외 시간 (반복될수록 배수로 늘어남)
+     * @param maxEjectionNanos    최대 제외 시간
+     * @param maxEjectionPercent  동시에 제외할 수 있는 인스턴스 비율 (%)
+     */
+    public record Settings(long decayNanos, int failureThreshold, long ejectionNanos, long maxEjectionNanos,
+                           int maxEjectionPercent) {
+    }
+}
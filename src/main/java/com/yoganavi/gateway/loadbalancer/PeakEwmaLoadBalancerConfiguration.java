@@ -0,0 +1,35 @@
+package com.yoganavi.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 서비스별 로드 밸런서 자식 컨텍스트에 등록되는 설정
+ * <p>
+ * 컴포넌트 스캔에 포함되면 모든 서비스가 같은 빈을 공유하게 되므로 @Configuration 을 붙이지 않는다.
+ * ({@code @LoadBalancerClients(defaultConfiguration = ...)} 로만 등록)
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory clientFactory,
+                                                                     MeterRegistry meterRegistry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        PeakEwmaLoadBalancer.Settings settings = new PeakEwmaLoadBalancer.Settings(
+            environment.getProperty("gateway.load-balancer.decay-time", Duration.class, Duration.ofSeconds(10)).toNanos(),
+            environment.getProperty("gateway.load-balancer.failure-threshold", Integer.class, 5),
+            environment.getProperty("gateway.load-balancer.ejection-time", Duration.class, Duration.ofSeconds(30)).toNanos(),
+            environment.getProperty("gateway.load-balancer.max-ejection-time", Duration.class, Duration.ofMinutes(5)).toNanos(),
+            environment.getProperty("gateway.load-balancer.max-ejection-percent", Integer.class, 50));
+        return new PeakEwmaLoadBalancer(serviceId,
+            clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), settings, meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yoganavi.gateway.loadbalancer;
+
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * 업스트림 응답 헤더를 받은 시각
+ * <p>
+ * LoadBalancerCompletionFilter 가 인스턴스 선택 직후 exchange 속성과 Reactor 컨텍스트에 넣고,
+ * 서비스별 HttpClient 의 doOnResponse 에서 시각을 기록한다.
+ * 재시도하면 시도마다 새로 만들어지므로 속성에는 마지막 시도의 값만 남는다.
+ */
+public final class UpstreamResponseTime {
+
+    public static final String ATTR = UpstreamResponseTime.class.getName();
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private volatile long receivedNanos = UNSET;
+
+    /**
+     * HttpClient.doOnResponse. 업스트림 응답 헤더를 받은 직후 호출된다
+     */
+    public static void received(HttpClientResponse response, Connection connection) {
+        UpstreamResponseTime time = response.currentContextView().getOrDefault(UpstreamResponseTime.class, null);
+        if (time != null) {
+            time.receivedNanos = System.nanoTime();
+        }
+    }
+
+    boolean isReceived() {
+        return receivedNanos != UNSET;
+    }
+
+    long receivedNanos() {
+        return receivedNanos;
+    }
+}
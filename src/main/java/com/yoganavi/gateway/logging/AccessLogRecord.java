@@ -0,0 +1,44 @@
+package com.yoganavi.gateway.logging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 하나에 대한 접근 로그
+ *
+ * @param timestamp       요청 시작 시각 (epoch millis)
+ * @param requestId       요청 id
+ * @param traceId         W3C trace id (추적이 꺼져 있으면 null)
+ * @param method          HTTP 메서드
+ * @param path            요청 경로
+ * @param routeId         라우트 id (없으면 null)
+ * @param status          응답 상태 코드 (없으면 0)
+ * @param durationMicros  처리 시간 (마이크로초)
+ * @param memberId        인증된 회원 id (없으면 null)
+ * @param clientAddress   클라이언트 주소 (없으면 null)
+ * @param requestHeaders  샘플링된 경우에만 기록되는 요청 헤더 (민감 헤더는 마스킹)
+ * @param responseHeaders 샘플링된 경우에만 기록되는 응답 헤더 (민감 헤더는 마스킹)
+ */
+public record AccessLogRecord(long timestamp, String requestId, String traceId, String method, String path,
+                              String routeId, int status, long durationMicros, Integer memberId,
+                              String clientAddress, Map<String, List<String>> requestHeaders,
+                              Map<String, List<String>> responseHeaders) {
+
+    void appendTo(StringBuilder sb) {
+        sb.append('[').append(requestId).append("] ")
+            .append(method).append(' ').append(path)
+            .append(" route=").append(routeId)
+            .append(" status=").append(status)
+            .append(" duration=").append(durationMicros / 1000).append('.')
+            .append(String.format("%03d", durationMicros % 1000)).append("ms")
+            .append(" member=").append(memberId)
+            .append(" client=").append(clientAddress)
+            .append(" trace=").append(traceId);
+        if (requestHeaders != null) {
+            sb.append(" request_headers=").append(requestHeaders);
+        }
+        if (responseHeaders != null) {
+            sb.append(" response_headers=").append(responseHeaders);
+        }
+    }
+}
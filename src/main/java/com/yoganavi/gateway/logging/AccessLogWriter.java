@@ -0,0 +1,107 @@
+package com.yoganavi.gateway.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그를 고정 크기 링 버퍼에 쌓고 백그라운드 스레드에서 기록
+ * <p>
+ * 이벤트 루프 스레드는 버퍼에 넣기만 하고 로그 I/O 를 기다리지 않는다.
+ * 버퍼가 가득 차면 기록을 버리고 gateway.access-log.dropped 카운터를 올린다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("com.yoganavi.gateway.access");
+    private static final int BATCH_SIZE = 256;
+
+    private final ArrayBlockingQueue<AccessLogRecord> buffer;
+    private final Counter droppedCounter;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AccessLogWriter(MeterRegistry meterRegistry,
+                           @Value("${gateway.access-log.buffer-size:8192}") int bufferSize) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.droppedCounter = Counter.builder("gateway.access-log.dropped")
+            .description("버퍼가 가득 차 버려진 접근 로그 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.access-log.pending", buffer, ArrayBlockingQueue::size)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 시 남은 로그 기록
+        List<AccessLogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder sb = new StringBuilder(256);
+        while (!buffer.isEmpty()) {
+            flush(batch, sb);
+        }
+    }
+
+    /**
+     * 접근 로그 추가. 호출 스레드를 막지 않음
+     */
+    public void write(AccessLogRecord record) {
+        if (!buffer.offer(record)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder sb = new StringBuilder(256);
+        while (running) {
+            try {
+                AccessLogRecord first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                flush(batch, sb);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("gateway - 접근 로그 기록 실패", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AccessLogRecord> batch, StringBuilder sb) {
+        buffer.drainTo(batch, BATCH_SIZE - batch.size());
+        for (AccessLogRecord record : batch) {
+            sb.setLength(0);
+            record.appendTo(sb);
+            ACCESS_LOG.info(sb.toString());
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package com.yoganavi.gateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 요청 한도 저장소
+ * <p>
+ * 키마다 "다음 요청의 이론적 도착 시각(TAT)" 하나만 AtomicLong 으로 보관하고 CAS 로 갱신한다.
+ * ConcurrentHashMap 의 버킷 단위 분할 덕분에 서로 다른 키 사이에는 경합이 없고, 락을 사용하지 않는다.
+ * I/O 가 없으므로 토큰은 구독 시점이 아니라 호출 시점에 소비하고, 허용 결과는 같은 Mono 를 재사용한다.
+ * <p>
+ * 키 수는 (동시에 추가되는 몇 개를 제외하면) maxKeys 를 넘지 않는다. 정리는 요청 경로가 아니라 {@link #start(Duration)} 로 시작한 백그라운드 작업이 맡는다.
+ * - 이미 가득 찬(= 상태가 없는 것과 같은) 버킷을 제거
+ * - 그래도 상한의 90% 를 넘으면 가득 차는 시각이 가장 이른 버킷부터 제거 (잃는 소비 기록이 가장 적음)
+ * 정리가 따라오지 못해 상한에 도달하면 새 키는 버킷을 만들지 않고 허용한다. 새 버킷을 만든 것과 같은 결과다.
+ * 제거할 버킷은 먼저 RETIRED 로 바꾼 뒤 맵에서 빼므로, 동시에 소비하던 요청은 CAS 에 실패하고 새 버킷에서 다시 소비한다.
+ */
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final Mono<Long> ALLOWED = Mono.just(0L);
+    private static final long RETIRED = Long.MIN_VALUE;
+    private static final long RETRY = -1L;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private Disposable sweeper;
+
+    public InMemoryRateLimitStore(int maxKeys) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys 는 0보다 커야 함: " + maxKeys);
+        }
+        this.maxKeys = maxKeys;
+    }
+
+    public void start(Duration sweepInterval) {
+        sweeper = Flux.interval(sweepInterval, Schedulers.single())
+            .subscribe(tick -> sweep(System.nanoTime()),
+                e -> log.error("gateway - 요청 한도 버킷 정리 중단", e));
+    }
+
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key, RateLimit limit) {
+        long waitNanos = acquire(key, limit, System.nanoTime());
+        return waitNanos == 0L ? ALLOWED : Mono.just(waitNanos);
+    }
+
+    long acquire(String key, RateLimit limit, long now) {
+        while (true) {
+            AtomicLong tat = buckets.get(key);
+            if (tat == null) {
+                if (buckets.size() >= maxKeys) {
+                    return 0L;
+                }
+                tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            long waitNanos = consume(tat, limit, now);
+            if (waitNanos != RETRY) {
+                return waitNanos;
+            }
+            // 정리 중인 버킷. 맵에서 빼고 새 버킷으로 다시 시도
+            buckets.remove(key, tat);
+        }
+    }
+
+    private static long consume(AtomicLong tat, RateLimit limit, long now) {
+        while (true) {
+            long current = tat.get();
+            if (current == RETIRED) {
+                return RETRY;
+            }
+            long base = current - now > 0 ? current : now;
+            long waitNanos = base - limit.burstToleranceNanos() - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, base + limit.emissionIntervalNanos())) {
+                return 0L;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    void sweep(long now) {
+        // TAT 가 현재 시각 이전인 버킷은 가득 찬 상태이므로 제거해도 결과가 같음
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            long current = entry.getValue().get();
+            if (current != RETIRED && current - now <= 0) {
+                retire(entry.getKey(), entry.getValue(), current);
+            }
+        }
+
+        int target = maxKeys - Math.max(1, maxKeys / 10);
+        int excess = buckets.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        long[] tats = new long[buckets.size()];
+        int count = 0;
+        for (AtomicLong tat : buckets.values()) {
+            long current = tat.get();
+            if (count == tats.length) {
+                break;
+            }
+            if (current != RETIRED) {
+                tats[count++] = current - now;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(tats, 0, count);
+        long cutoff = tats[Math.min(excess, count) - 1];
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            long current = entry.getValue().get();
+            if (current != RETIRED && current - now <= cutoff) {
+                retire(entry.getKey(), entry.getValue(), current);
+            }
+        }
+    }
+
+    // 그 사이 소비된 버킷은 CAS 에 실패하므로 제거하지 않음
+    private void retire(String key, AtomicLong tat, long current) {
+        if (tat.compareAndSet(current, RETIRED)) {
+            buckets.remove(key, tat);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.yoganavi.gateway.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 한도
+ * <p>
+ * GCRA(Generic Cell Rate Algorithm) 형태로 저장하기 위해 요청 간격과 허용 버스트 구간을 미리 계산해 둔다.
+ *
+ * @param capacity        버킷 크기 (연속으로 허용되는 최대 요청 수)
+ * @param refillPerSecond 초당 채워지는 토큰 수
+ */
+public record RateLimit(long capacity, double refillPerSecond, long emissionIntervalNanos,
+                        long burstToleranceNanos) {
+
+    public static RateLimit of(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                "capacity 와 refillPerSecond 는 0보다 커야 함: " + capacity + ", " + refillPerSecond);
+        }
+        long emissionInterval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        return new RateLimit(capacity, refillPerSecond, emissionInterval,
+            emissionInterval * (capacity - 1));
+    }
+}
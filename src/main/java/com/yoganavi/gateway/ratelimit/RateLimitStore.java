@@ -0,0 +1,20 @@
+package com.yoganavi.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 한도 상태 저장소
+ * <p>
+ * 기본 구현은 노드 로컬 메모리({@link InMemoryRateLimitStore})이며,
+ * 여러 게이트웨이 노드가 한도를 공유해야 하면 이 인터페이스를 구현한 빈을 등록한다.
+ * 필터는 이벤트 루프에서 호출하므로, Redis 같은 원격 저장소 구현은 논블로킹 클라이언트로 결과를 Mono 로 돌려줘야 한다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * 키에 해당하는 버킷에서 토큰 하나 소비
+     *
+     * @return 허용되면 0, 거절되면 다음 요청이 허용되기까지 남은 시간 (ns). 값은 항상 하나
+     */
+    Mono<Long> tryAcquire(String key, RateLimit limit);
+}
@@ -0,0 +1,74 @@
+package com.yoganavi.gateway.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 재시도 예산
+ * <p>
+ * 최초 요청마다 retryRatio 만큼 예산이 적립되고 재시도마다 1씩 차감된다.
+ * 즉 장기적으로 재시도 수는 최근 트래픽의 retryRatio 비율을 넘지 못한다.
+ * 트래픽이 적은 라우트도 재시도할 수 있도록 초당 minRetriesPerSecond 만큼은 항상 보장한다.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000L;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final long reserve;
+    private final AtomicLong balance;
+    private final AtomicLong lastReserveSecond = new AtomicLong();
+
+    /**
+     * @param retryRatio          최초 요청 대비 허용 재시도 비율 (0.1 = 10%)
+     * @param minRetriesPerSecond 트래픽과 무관하게 초당 보장되는 재시도 수
+     * @param maxRetries          적립 가능한 최대 재시도 수
+     */
+    public RetryBudget(double retryRatio, int minRetriesPerSecond, int maxRetries) {
+        this.depositPerRequest = (long) (retryRatio * SCALE);
+        this.reserve = minRetriesPerSecond * SCALE;
+        this.maxBalance = Math.max(maxRetries, minRetriesPerSecond) * SCALE;
+        this.balance = new AtomicLong(reserve);
+    }
+
+    /**
+     * 최초 요청 한 건 적립
+     */
+    public void deposit() {
+        if (depositPerRequest > 0 && balance.get() < maxBalance) {
+            balance.accumulateAndGet(depositPerRequest, (current, add) -> Math.min(maxBalance, current + add));
+        }
+    }
+
+    /**
+     * 재시도 한 건 차감
+     *
+     * @return 예산이 남아 있으면 true
+     */
+    public boolean tryWithdraw() {
+        refillReserve();
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+
+    // 초가 바뀐 뒤 처음 호출한 스레드만 최소 예산을 채움
+    private void refillReserve() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long last = lastReserveSecond.get();
+        if (second != last && lastReserveSecond.compareAndSet(last, second)) {
+            balance.accumulateAndGet(reserve, Math::max);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.yoganavi.gateway.revocation;
+
+/**
+ * 토큰 폐기 항목
+ * <p>
+ * - 토큰 단위: jti 가 tokenId 인 토큰을 expiresAt(토큰 만료 시각)까지 거부
+ * - 회원 단위: userId 회원이 revokedAt 이전에 발급받은 모든 토큰을 거부 (로그아웃 전체, 비밀번호 재설정)
+ *
+ * @param tokenId   폐기할 토큰의 jti (회원 단위면 null)
+ * @param userId    폐기할 회원 id (토큰 단위면 null)
+ * @param expiresAt 토큰 단위 항목의 만료 시각 (epoch millis)
+ * @param revokedAt 회원 단위 항목의 기준 시각 (epoch millis)
+ */
+public record Revocation(String tokenId, Integer userId, long expiresAt, long revokedAt) {
+
+    public static Revocation ofToken(String tokenId, long expiresAt) {
+        return new Revocation(tokenId, null, expiresAt, 0L);
+    }
+
+    public static Revocation ofMember(int userId, long revokedAt) {
+        return new Revocation(null, userId, 0L, revokedAt);
+    }
+}
@@ -0,0 +1,15 @@
+package com.yoganavi.gateway.revocation;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 외부에서 토큰 폐기 항목을 받아오는 소스
+ * <p>
+ * 게이트웨이가 여러 대일 때 관리 API 는 호출을 받은 노드에만 반영되므로,
+ * 메시지 브로커 등을 구독하는 구현을 빈으로 등록하면 모든 노드의 {@link RevocationList} 에 전달된다.
+ * 스트림이 오류로 끝나면 잠시 후 다시 구독한다.
+ */
+public interface RevocationFeed {
+
+    Flux<Revocation> revocations();
+}
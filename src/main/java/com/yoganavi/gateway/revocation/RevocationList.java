@@ -0,0 +1,164 @@
+package com.yoganavi.gateway.revocation;
+
+import com.yoganavi.gateway.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 목록 (노드 메모리)
+ * <p>
+ * 요청마다 네트워크 호출 없이 확인할 수 있도록 메모리에 둔다.
+ * - 토큰 단위 항목은 Bloom filter 로 먼저 거르고, 걸린 경우에만 정확한 집합(jti -> 만료 시각)을 확인
+ * - 회원 단위 항목은 회원 id -> 기준 시각 맵. 비어 있으면 조회하지 않음
+ * 항목은 토큰 만료 시각(회원 단위는 기준 시각 + 액세스 토큰 유효 기간)이 지나면 주기적으로 정리되고,
+ * 정리 후 Bloom filter 를 새로 만들어 교체한다. 항목 수가 maxEntries 를 넘으면 먼저 정리해 보고, 그래도 가득 차 있으면
+ * 관리 API 요청은 거절하고 피드 항목은 버린다(gateway.revocation.dropped). 피드 구독은 유지되어 공간이 생기면 다시 반영된다.
+ */
+@Slf4j
+@Component
+public class RevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final int maxEntries;
+    private final long accessTokenLifetimeMillis;
+    private final Duration sweepInterval;
+    private final ObjectProvider<RevocationFeed> feeds;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> members = new ConcurrentHashMap<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private volatile BloomFilter bloomFilter;
+
+    public RevocationList(ObjectProvider<RevocationFeed> feeds,
+                          MeterRegistry meterRegistry,
+                          @Value("${gateway.revocation.max-entries:100000}") int maxEntries,
+                          @Value("${gateway.revocation.sweep-interval:1m}") Duration sweepInterval,
+                          @Value("${jwt.access-token-expiration}") long accessTokenLifetimeMillis) {
+        this.feeds = feeds;
+        this.maxEntries = maxEntries;
+        this.sweepInterval = sweepInterval;
+        this.accessTokenLifetimeMillis = accessTokenLifetimeMillis;
+        this.bloomFilter = new BloomFilter(maxEntries, FALSE_POSITIVE_RATE);
+        this.rejectedCounter = Counter.builder("gateway.auth.revoked")
+            .description("폐기된 토큰으로 거절한 요청 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gateway.revocation.dropped")
+            .description("폐기 목록이 가득 차 반영하지 못한 피드 항목 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.revocation.entries", this, RevocationList::size)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        subscriptions.add(Flux.interval(sweepInterval, Schedulers.single())
+            .subscribe(tick -> sweep(System.currentTimeMillis())));
+        feeds.orderedStream().forEach(feed -> subscriptions.add(feed.revocations()
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+            .subscribe(this::addFromFeed, e -> log.error("gateway - 토큰 폐기 피드 종료", e))));
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * 검증된 토큰이 폐기되었는지 확인. 대부분의 토큰은 Bloom filter 조회와 빈 맵 확인으로 끝난다.
+     */
+    public boolean isRevoked(JwtUtil.TokenPrincipal principal) {
+        String tokenId = principal.tokenId();
+        if (tokenId != null && bloomFilter.mightContain(tokenId) && tokens.containsKey(tokenId)) {
+            rejectedCounter.increment();
+            return true;
+        }
+        if (!members.isEmpty() && principal.userId() != null) {
+            Long revokedAt = members.get(principal.userId());
+            // iat 가 없는 토큰은 언제 발급되었는지 알 수 없으므로 폐기된 것으로 봄
+            // iat 는 초 단위이므로 폐기 시각도 초 단위로 내려 비교 (같은 초에 새로 발급된 토큰은 유효)
+            if (revokedAt != null && principal.issuedAt() < revokedAt / 1000 * 1000) {
+                rejectedCounter.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 폐기 항목 추가
+     *
+     * @throws IllegalStateException 항목 수가 상한에 도달한 경우
+     */
+    public synchronized void add(Revocation revocation) {
+        long now = System.currentTimeMillis();
+        if (size() >= maxEntries) {
+            sweep(now);
+            if (size() >= maxEntries) {
+                throw new IllegalStateException("폐기 목록이 가득 찼습니다 (" + maxEntries + ")");
+            }
+        }
+        if (revocation.tokenId() != null) {
+            if (revocation.expiresAt() <= now) {
+                return;
+            }
+            tokens.merge(revocation.tokenId(), revocation.expiresAt(), Math::max);
+            bloomFilter.add(revocation.tokenId());
+            log.info("gateway - 토큰 폐기: jti={}", revocation.tokenId());
+        } else if (revocation.userId() != null) {
+            members.merge(revocation.userId(), revocation.revokedAt(), Math::max);
+            log.info("gateway - 회원 토큰 전체 폐기: userId={}, 기준 시각={}", revocation.userId(),
+                revocation.revokedAt());
+        }
+    }
+
+    // 구독 콜백에서 예외가 나면 구독이 취소되고 retryWhen 으로도 다시 구독하지 않으므로, 가득 찬 경우는 여기서 처리
+    private void addFromFeed(Revocation revocation) {
+        try {
+            add(revocation);
+        } catch (IllegalStateException e) {
+            droppedCounter.increment();
+            log.warn("gateway - 폐기 목록이 가득 차 피드 항목을 반영하지 못함: {}", revocation);
+        }
+    }
+
+    public int size() {
+        return tokens.size() + members.size();
+    }
+
+    public int tokenEntries() {
+        return tokens.size();
+    }
+
+    public int memberEntries() {
+        return members.size();
+    }
+
+    // 만료된 항목을 정리하고 Bloom filter 를 다시 만듦
+    synchronized void sweep(long now) {
+        boolean removed = tokens.values().removeIf(expiresAt -> expiresAt <= now);
+        members.values().removeIf(revokedAt -> revokedAt + accessTokenLifetimeMillis <= now);
+        if (removed) {
+            BloomFilter rebuilt = new BloomFilter(maxEntries, FALSE_POSITIVE_RATE);
+            tokens.keySet().forEach(rebuilt::add);
+            bloomFilter = rebuilt;
+        }
+    }
+}
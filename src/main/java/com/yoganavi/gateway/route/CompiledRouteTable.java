@@ -0,0 +1,22 @@
+package com.yoganavi.gateway.route;
+
+import org.springframework.cloud.gateway.route.Route;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 컴파일이 끝난 라우트 테이블. 만들어진 뒤에는 바뀌지 않으며 교체만 된다
+ *
+ * @param version      적용 순서대로 1부터 증가
+ * @param index        라우트 선택과 인증 생략 여부에 쓰는 경로 인덱스
+ * @param routes       필터 인스턴스까지 미리 만들어 둔 라우트
+ * @param compileNanos 읽기부터 컴파일까지 걸린 시간
+ */
+public record CompiledRouteTable(long version, RouteIndex index, List<Route> routes,
+                                 long compileNanos, Instant compiledAt) {
+
+    public CompiledRouteTable {
+        routes = List.copyOf(routes);
+    }
+}
@@ -0,0 +1,20 @@
+package com.yoganavi.gateway.route;
+
+import java.util.List;
+
+/**
+ * 라우트 정의 검증 실패. 발견한 오류를 모두 담는다
+ */
+public class InvalidRouteTableException extends IllegalArgumentException {
+
+    private final List<String> errors;
+
+    public InvalidRouteTableException(List<String> errors) {
+        super("잘못된 라우트 정의: " + String.join(", ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
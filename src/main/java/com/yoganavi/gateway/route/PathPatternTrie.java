@@ -0,0 +1,141 @@
+package com.yoganavi.gateway.route;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 경로 패턴을 문자 단위 trie 로 컴파일한 인덱스
+ * <p>
+ * 지원하는 패턴
+ * - 정확히 일치: /user/login
+ * - 하위 경로 전체: /user/register/** (/user/register 자신도 포함)
+ * <p>
+ * 조회 시 정규식이나 문자열 분할 없이 경로를 한 번만 순회하며, 정확히 일치하는 패턴이 있으면 우선하고
+ * 없으면 가장 긴 접두사 패턴을 선택한다. 끝의 '/' 하나는 무시한다.
+ * 인스턴스는 시작 시점에 한 번 구성한 뒤 읽기 전용으로 사용해야 한다.
+ */
+public class PathPatternTrie<T> {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Node<T> root = new Node<>();
+
+    public static PathPatternTrie<Boolean> of(Collection<String> patterns) {
+        PathPatternTrie<Boolean> trie = new PathPatternTrie<>();
+        patterns.forEach(pattern -> trie.add(pattern, Boolean.TRUE));
+        return trie;
+    }
+
+    /**
+     * 패턴 등록
+     *
+     * @throws IllegalArgumentException 지원하지 않는 패턴이거나 같은 패턴이 이미 등록된 경우
+     */
+    public PathPatternTrie<T> add(String pattern, T value) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 '/'로 시작해야 함: " + pattern);
+        }
+
+        boolean prefix = pattern.endsWith(ANY_SUFFIX);
+        String base = prefix ? pattern.substring(0, pattern.length() - ANY_SUFFIX.length()) : pattern;
+        if (base.indexOf('*') >= 0 || base.indexOf('{') >= 0) {
+            throw new IllegalArgumentException("지원하지 않는 경로 패턴 (끝의 /** 만 허용): " + pattern);
+        }
+        if (base.length() > 1 && base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+
+        Node<T> node = root;
+        for (int i = 0; i < base.length(); i++) {
+            node = node.childOrCreate(base.charAt(i));
+        }
+
+        if (prefix) {
+            if (node.prefix != null) {
+                throw new IllegalArgumentException("중복된 경로 패턴: " + pattern);
+            }
+            node.prefix = value;
+        } else {
+            if (node.exact != null) {
+                throw new IllegalArgumentException("중복된 경로 패턴: " + pattern);
+            }
+            node.exact = value;
+        }
+        return this;
+    }
+
+    /**
+     * 경로에 해당하는 값 조회
+     *
+     * @return 일치하는 패턴이 없으면 null
+     */
+    public T match(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+
+        int length = path.length();
+        Node<T> node = root;
+        Node<T> previous = null;
+        T best = root.prefix;
+
+        for (int i = 0; i < length; i++) {
+            previous = node;
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                // "/user/login/" 처럼 끝의 '/' 만 남은 경우
+                if (i == length - 1 && path.charAt(i) == '/' && previous.exact != null) {
+                    return previous.exact;
+                }
+                return best;
+            }
+            if (node.prefix != null && (i + 1 == length || path.charAt(i + 1) == '/')) {
+                best = node.prefix;
+            }
+        }
+
+        if (node.exact != null) {
+            return node.exact;
+        }
+        if (length > 1 && path.charAt(length - 1) == '/' && previous != null && previous.exact != null) {
+            return previous.exact;
+        }
+        return best;
+    }
+
+    private static final class Node<T> {
+
+        private char[] keys = new char[0];
+        private Node<T>[] children = newArray(0);
+        private T exact;
+        private T prefix;
+
+        // 자식 수가 작으므로 선형 탐색이 해시보다 빠르고 할당도 없음
+        private Node<T> child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<T> childOrCreate(char c) {
+            Node<T> child = child(c);
+            if (child == null) {
+                child = new Node<>();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = c;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return (Node<T>[]) new Node[size];
+        }
+    }
+}
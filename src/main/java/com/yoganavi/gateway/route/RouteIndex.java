@@ -0,0 +1,128 @@
+package com.yoganavi.gateway.route;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 공개/보호 라우트의 경로 패턴을 하나의 trie 로 컴파일한 라우트 인덱스
+ * <p>
+ * 요청 경로는 exchange 당 한 번만 조회되고 결과는 exchange 속성에 저장된다.
+ * 각 라우트의 predicate 는 저장된 결과와 자신의 항목을 참조 비교만 하므로,
+ * 라우트 수가 늘어나도 라우트 하나당 평가 비용은 일정하다.
+ * 같은 결과로 JwtAuthenticationFilter 가 인증 생략 여부를 결정한다.
+ * <p>
+ * 라우트 테이블이 교체되면 새 인덱스가 만들어지므로, 저장된 결과는 조회한 인덱스와 함께 보관한다.
+ */
+public class RouteIndex {
+
+    public static final String MATCH_ATTR = RouteIndex.class.getName() + ".match";
+
+    /**
+     * 라우트 id 와 인증 필요 여부
+     */
+    public record Entry(String routeId, boolean authRequired) {
+    }
+
+    private record Match(RouteIndex index, String path, Entry entry) {
+    }
+
+    private static final Entry NO_ROUTE = new Entry("", true);
+
+    private final PathPatternTrie<Entry> trie;
+    private final Map<String, Entry> entries;
+
+    private RouteIndex(PathPatternTrie<Entry> trie, Map<String, Entry> entries) {
+        this.trie = trie;
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * exchange 의 현재 경로에 해당하는 항목. 같은 경로에 대해서는 한 번만 trie 를 조회
+     *
+     * @return 일치하는 라우트가 없으면 null
+     */
+    public Entry match(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+        Match match = exchange.getAttribute(MATCH_ATTR);
+        // forward 등으로 경로가 바뀌었거나 다른 버전의 인덱스가 조회한 경우 다시 조회
+        if (match == null || match.index() != this || !match.path().equals(path)) {
+            Entry entry = trie.match(path);
+            match = new Match(this, path, entry != null ? entry : NO_ROUTE);
+            exchange.getAttributes().put(MATCH_ATTR, match);
+        }
+        return match.entry() == NO_ROUTE ? null : match.entry();
+    }
+
+    /**
+     * 라우트 predicate. 인덱스 조회 결과가 해당 라우트인지 확인
+     */
+    public Predicate<ServerWebExchange> predicate(String routeId) {
+        Entry entry = entries.get(routeId);
+        if (entry == null) {
+            throw new IllegalArgumentException("인덱스에 등록되지 않은 라우트: " + routeId);
+        }
+        return exchange -> match(exchange) == entry;
+    }
+
+    public Map<String, Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * 라우트 predicate 평가 중 저장된 조회 결과. 인덱스를 거치지 않은 요청이면 null
+     */
+    public static Entry currentMatch(ServerWebExchange exchange) {
+        Match match = exchange.getAttribute(MATCH_ATTR);
+        if (match == null || match.entry() == NO_ROUTE
+            || !match.path().equals(exchange.getRequest().getPath().value())) {
+            return null;
+        }
+        return match.entry();
+    }
+
+    public static class Builder {
+
+        private final PathPatternTrie<Entry> trie = new PathPatternTrie<>();
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        /**
+         * 인증 없이 접근 가능한 라우트
+         */
+        public Builder publicRoute(String routeId, String... patterns) {
+            return route(routeId, false, patterns);
+        }
+
+        /**
+         * JWT 인증이 필요한 라우트
+         */
+        public Builder protectedRoute(String routeId, String... patterns) {
+            return route(routeId, true, patterns);
+        }
+
+        public Builder route(String routeId, boolean authRequired, String... patterns) {
+            if (entries.containsKey(routeId)) {
+                throw new IllegalArgumentException("중복된 라우트 id: " + routeId);
+            }
+            if (patterns.length == 0) {
+                throw new IllegalArgumentException("경로 패턴이 없는 라우트: " + routeId);
+            }
+            Entry entry = new Entry(routeId, authRequired);
+            Arrays.stream(patterns).forEach(pattern -> trie.add(pattern, entry));
+            entries.put(routeId, entry);
+            return this;
+        }
+
+        public RouteIndex build() {
+            return new RouteIndex(trie, entries);
+        }
+    }
+}
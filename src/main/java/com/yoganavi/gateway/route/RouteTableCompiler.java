@@ -0,0 +1,362 @@
+package com.yoganavi.gateway.route;
+
+import com.yoganavi.gateway.concurrency.OffloadScheduler;
+import com.yoganavi.gateway.filter.CompressionFilter;
+import com.yoganavi.gateway.filter.ConcurrencyLimitFilter;
+import com.yoganavi.gateway.filter.IdempotentRetryFilter;
+import com.yoganavi.gateway.filter.JwtAuthenticationFilter;
+import com.yoganavi.gateway.filter.LoadSheddingFilter;
+import com.yoganavi.gateway.filter.MetricFilter;
+import com.yoganavi.gateway.filter.RateLimitFilter;
+import com.yoganavi.gateway.filter.RequestCoalescingFilter;
+import com.yoganavi.gateway.filter.RequestLoggingFilter;
+import com.yoganavi.gateway.filter.RequestSizeLimitFilter;
+import com.yoganavi.gateway.filter.ResponseCacheFilter;
+import com.yoganavi.gateway.filter.StaleIfErrorFilter;
+import com.yoganavi.gateway.route.RouteTableSpec.RateLimitSpec;
+import com.yoganavi.gateway.route.RouteTableSpec.RouteSpec;
+import com.yoganavi.gateway.slo.Slo;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.GatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 라우트 정의를 검증하고 Route 목록으로 컴파일
+ * <p>
+ * 필터 인스턴스는 컴파일 시점에 라우트마다 한 번만 만들고, 요청 처리 중에는 새로 만들지 않는다.
+ * 모든 라우트에 메트릭, 요청 로그, 인증 필터가 적용된다. 인증 필터는 공개 라우트에서 인증을 생략하지만
+ * 클라이언트가 보낸 신원 헤더는 항상 제거한다. 과부하 차단 필터는 라우트 priority 로 모든 라우트에 적용된다.
+ * 요청 한도, 동시 요청 한도, 서킷 브레이커 상태는 라우트 id 나 서비스 이름 기준으로 필터 밖에 보관되므로
+ * 테이블이 교체되어도 유지된다.
+ * gateway.offload.filters 에 지정된 필터는 OffloadScheduler 에서 실행되도록 감싼다.
+ */
+public class RouteTableCompiler {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9][a-z0-9-]*");
+    private static final Set<String> KNOWN_METHODS = Arrays.stream(HttpMethod.values())
+        .map(HttpMethod::name)
+        .collect(Collectors.toUnmodifiableSet());
+
+    static final String WEBSOCKET_SUFFIX = "-websocket";
+    static final String STREAM_SUFFIX = "-stream";
+
+    private final MetricFilter metricFilter;
+    private final RequestLoggingFilter requestLoggingFilter;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoadSheddingFilter loadSheddingFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final RequestSizeLimitFilter requestSizeLimitFilter;
+    private final CompressionFilter compressionFilter;
+    private final ResponseCacheFilter responseCacheFilter;
+    private final RequestCoalescingFilter requestCoalescingFilter;
+    private final StaleIfErrorFilter staleIfErrorFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final SpringCloudCircuitBreakerFilterFactory circuitBreakerFilter;
+    private final IdempotentRetryFilter retryFilter;
+    private final OffloadScheduler offloadScheduler;
+
+    public RouteTableCompiler(MetricFilter metricFilter,
+                              RequestLoggingFilter requestLoggingFilter,
+                              JwtAuthenticationFilter jwtAuthenticationFilter,
+                              LoadSheddingFilter loadSheddingFilter,
+                              RateLimitFilter rateLimitFilter,
+                              RequestSizeLimitFilter requestSizeLimitFilter,
+                              CompressionFilter compressionFilter,
+                              ResponseCacheFilter responseCacheFilter,
+                              RequestCoalescingFilter requestCoalescingFilter,
+                              StaleIfErrorFilter staleIfErrorFilter,
+                              ConcurrencyLimitFilter concurrencyLimitFilter,
+                              SpringCloudCircuitBreakerFilterFactory circuitBreakerFilter,
+                              IdempotentRetryFilter retryFilter,
+                              OffloadScheduler offloadScheduler) {
+        this.metricFilter = metricFilter;
+        this.requestLoggingFilter = requestLoggingFilter;
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.loadSheddingFilter = loadSheddingFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.requestSizeLimitFilter = requestSizeLimitFilter;
+        this.compressionFilter = compressionFilter;
+        this.responseCacheFilter = responseCacheFilter;
+        this.requestCoalescingFilter = requestCoalescingFilter;
+        this.staleIfErrorFilter = staleIfErrorFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.circuitBreakerFilter = circuitBreakerFilter;
+        this.retryFilter = retryFilter;
+        this.offloadScheduler = offloadScheduler;
+    }
+
+    /**
+     * @throws InvalidRouteTableException 정의에 오류가 있는 경우. 발견한 오류를 모두 포함
+     */
+    public CompiledRouteTable compile(RouteTableSpec spec, long version) {
+        long startTime = System.nanoTime();
+        validate(spec);
+
+        RouteIndex.Builder indexBuilder = RouteIndex.builder();
+        List<String> errors = new ArrayList<>();
+        for (RouteSpec route : spec.getRoutes()) {
+            try {
+                indexBuilder.route(route.getId(), route.isAuth(), route.getPaths().toArray(String[]::new));
+            } catch (IllegalArgumentException e) {
+                errors.add(route.getId() + ": " + e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidRouteTableException(errors);
+        }
+        RouteIndex index = indexBuilder.build();
+
+        // 라우트 공통 필터는 테이블 안에서 공유
+        GatewayFilter metric = filter(metricFilter, new Object());
+        GatewayFilter logging = filter(requestLoggingFilter, new Object());
+        GatewayFilter auth = filter(jwtAuthenticationFilter, new JwtAuthenticationFilter.Config());
+
+        List<Route> routes = new ArrayList<>();
+        for (RouteSpec route : spec.getRoutes()) {
+            Predicate<ServerWebExchange> predicate = index.predicate(route.getId());
+            if (!route.getMethods().isEmpty()) {
+                Set<HttpMethod> methods = route.getMethods().stream()
+                    .map(HttpMethod::valueOf)
+                    .collect(Collectors.toUnmodifiableSet());
+                predicate = predicate.and(exchange -> methods.contains(exchange.getRequest().getMethod()));
+            }
+
+            List<GatewayFilter> common = new ArrayList<>(List.of(metric, logging, auth));
+            if (route.getRateLimit() != null) {
+                RateLimitSpec rateLimit = route.getRateLimit();
+                RateLimitFilter.Config rateLimitConfig = new RateLimitFilter.Config()
+                    .limit(rateLimit.getCapacity(), rateLimit.getRefillPerSecond());
+                rateLimit.getRoles().forEach((role, limit) ->
+                    rateLimitConfig.roleLimit(role, limit.getCapacity(), limit.getRefillPerSecond()));
+                common.add(filter(rateLimitFilter, rateLimitConfig));
+            }
+
+            // 스트리밍 라우트는 같은 경로의 일반 라우트보다 먼저 평가되고 서킷 브레이커, 재시도, 타임아웃 없이 프록시
+            if (route.isWebsocket()) {
+                routes.add(Route.async()
+                    .id(route.getId() + WEBSOCKET_SUFFIX)
+                    .uri("lb:ws://" + route.getService())
+                    .order(-1)
+                    .predicate(predicate.and(RouteTableCompiler::isWebSocketUpgrade))
+                    .filters(streamFiltersOf(route, common))
+                    .build());
+            }
+            if (route.isEventStream()) {
+                routes.add(Route.async()
+                    .id(route.getId() + STREAM_SUFFIX)
+                    .uri("lb://" + route.getService())
+                    .order(-1)
+                    .predicate(predicate.and(RouteTableCompiler::acceptsEventStream))
+                    .filters(streamFiltersOf(route, common))
+                    .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, -1)
+                    .build());
+            }
+
+            Route.AsyncBuilder main = Route.async()
+                .id(route.getId())
+                .uri("lb://" + route.getService())
+                .order(0)
+                .predicate(predicate)
+                .filters(filtersOf(route, common));
+            if (route.getSlo() != null) {
+                main.metadata(Slo.METADATA_KEY, sloOf(route.getSlo()));
+            }
+            routes.add(main.build());
+        }
+
+        return new CompiledRouteTable(version, index, routes, System.nanoTime() - startTime, Instant.now());
+    }
+
+    // 연결이 오래 유지되므로 처리 중 요청 수에는 포함하지 않고 연결 시점에만 차단 여부 판단
+    private List<GatewayFilter> streamFiltersOf(RouteSpec route, List<GatewayFilter> common) {
+        List<GatewayFilter> filters = new ArrayList<>(common);
+        filters.add(filter(loadSheddingFilter, new LoadSheddingFilter.Config()
+            .priority(route.getPriority())
+            .trackInFlight(false)));
+        return filters;
+    }
+
+    private List<GatewayFilter> filtersOf(RouteSpec route, List<GatewayFilter> common) {
+        List<GatewayFilter> filters = new ArrayList<>(common);
+        filters.add(filter(loadSheddingFilter, new LoadSheddingFilter.Config().priority(route.getPriority())));
+        filters.add(filter(requestSizeLimitFilter, new RequestSizeLimitFilter.Config()
+            .maxSize(route.getMaxRequestSize() != null ? DataSize.parse(route.getMaxRequestSize()) : null)));
+        if (route.isCompression()) {
+            filters.add(filter(compressionFilter, new CompressionFilter.Config()));
+        }
+        if (route.getCache() != null) {
+            filters.add(filter(responseCacheFilter, new ResponseCacheFilter.Config()
+                .ttl(DurationStyle.detectAndParse(route.getCache().getTtl()))
+                .scope(route.getCache().getScope())));
+        }
+        if (route.isCoalesce()) {
+            filters.add(filter(requestCoalescingFilter, new RequestCoalescingFilter.Config()
+                .scope(route.getCoalesceScope())));
+        }
+        if (route.isStaleIfError()) {
+            filters.add(filter(staleIfErrorFilter, new StaleIfErrorFilter.Config()));
+        }
+        if (route.isConcurrencyLimit()) {
+            filters.add(filter(concurrencyLimitFilter, new ConcurrencyLimitFilter.Config()));
+        }
+        if (route.getCircuitBreaker() != null) {
+            String name = StringUtils.hasText(route.getCircuitBreaker().getName())
+                ? route.getCircuitBreaker().getName()
+                : route.getService();
+            filters.add(ordered(filter(circuitBreakerFilter, new SpringCloudCircuitBreakerFilterFactory.Config()
+                .setName(name)
+                .setFallbackUri("forward:/fallback/" + route.getCircuitBreaker().getFallback()))));
+        }
+        if (route.isRetry()) {
+            // 멱등 요청만 재시도 (라우트마다 별도 예산)
+            filters.add(ordered(filter(retryFilter, new IdempotentRetryFilter.Config())));
+        }
+        return filters;
+    }
+
+    private static Slo sloOf(RouteTableSpec.SloSpec spec) {
+        return new Slo(DurationStyle.detectAndParse(spec.getLatency()), spec.getLatencyTarget(),
+            spec.getAvailabilityTarget());
+    }
+
+    private <C> GatewayFilter filter(GatewayFilterFactory<C> factory, C config) {
+        return offloadScheduler.wrap(factory.name(), factory.apply(config));
+    }
+
+    /**
+     * 순서가 없는 필터는 Java DSL 과 같이 0 번으로 고정. 그대로 두면 가장 마지막 순서로 밀려
+     * 라우팅 필터 뒤에서 실행된다
+     */
+    private static GatewayFilter ordered(GatewayFilter filter) {
+        return filter instanceof Ordered ? filter : new OrderedGatewayFilter(filter, 0);
+    }
+
+    private static boolean isWebSocketUpgrade(ServerWebExchange exchange) {
+        return "websocket".equalsIgnoreCase(exchange.getRequest().getHeaders().getUpgrade());
+    }
+
+    private static boolean acceptsEventStream(ServerWebExchange exchange) {
+        return exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.ACCEPT).stream()
+            .anyMatch(accept -> accept.contains("text/event-stream"));
+    }
+
+    private void validate(RouteTableSpec spec) {
+        List<String> errors = new ArrayList<>();
+        if (spec.getRoutes() == null || spec.getRoutes().isEmpty()) {
+            throw new InvalidRouteTableException(List.of("라우트가 없음"));
+        }
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < spec.getRoutes().size(); i++) {
+            RouteSpec route = spec.getRoutes().get(i);
+            String name = route.getId() != null ? route.getId() : "routes[" + i + "]";
+
+            if (!isName(route.getId())) {
+                errors.add(name + ": id 는 영문 소문자, 숫자, '-' 만 사용 가능");
+            } else {
+                addId(ids, route.getId(), errors);
+                if (route.isWebsocket()) {
+                    addId(ids, route.getId() + WEBSOCKET_SUFFIX, errors);
+                }
+                if (route.isEventStream()) {
+                    addId(ids, route.getId() + STREAM_SUFFIX, errors);
+                }
+            }
+            if (!isName(route.getService())) {
+                errors.add(name + ": service 가 없거나 잘못됨 - " + route.getService());
+            }
+            if (route.getPaths() == null || route.getPaths().isEmpty()) {
+                errors.add(name + ": paths 가 비어 있음");
+            }
+            if (route.getMethods() == null) {
+                route.setMethods(List.of());
+            }
+            route.getMethods().stream()
+                .filter(method -> !KNOWN_METHODS.contains(method))
+                .forEach(method -> errors.add(name + ": 알 수 없는 메서드 - " + method));
+
+            if (route.getRateLimit() != null) {
+                RateLimitSpec rateLimit = route.getRateLimit();
+                if (rateLimit.getCapacity() <= 0 || rateLimit.getRefillPerSecond() <= 0) {
+                    errors.add(name + ": rate-limit 의 capacity, refill-per-second 는 0보다 커야 함");
+                }
+                if (rateLimit.getRoles() == null) {
+                    rateLimit.setRoles(Map.of());
+                }
+                rateLimit.getRoles().forEach((role, limit) -> {
+                    if (limit == null || limit.getCapacity() <= 0 || limit.getRefillPerSecond() <= 0) {
+                        errors.add(name + ": rate-limit.roles." + role
+                            + " 의 capacity, refill-per-second 는 0보다 커야 함");
+                    }
+                });
+            }
+            if (route.getMaxRequestSize() != null) {
+                try {
+                    if (DataSize.parse(route.getMaxRequestSize()).toBytes() <= 0) {
+                        errors.add(name + ": max-request-size 는 0보다 커야 함");
+                    }
+                } catch (IllegalArgumentException e) {
+                    errors.add(name + ": max-request-size 형식이 잘못됨 - " + route.getMaxRequestSize());
+                }
+            }
+            if (route.getCache() != null) {
+                try {
+                    if (DurationStyle.detectAndParse(route.getCache().getTtl()).isNegative()) {
+                        errors.add(name + ": cache.ttl 은 음수일 수 없음");
+                    }
+                } catch (IllegalArgumentException e) {
+                    errors.add(name + ": cache.ttl 형식이 잘못됨 - " + route.getCache().getTtl());
+                }
+                if (route.getCache().getScope() == null) {
+                    errors.add(name + ": cache.scope 가 없음");
+                }
+            }
+            if (route.getSlo() != null) {
+                try {
+                    sloOf(route.getSlo());
+                } catch (IllegalArgumentException e) {
+                    errors.add(name + ": slo 가 잘못됨 - " + e.getMessage());
+                }
+            }
+            if (route.getCircuitBreaker() != null && !isName(route.getCircuitBreaker().getFallback())) {
+                errors.add(name + ": circuit-breaker.fallback 이 없거나 잘못됨 - "
+                    + route.getCircuitBreaker().getFallback());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidRouteTableException(errors);
+        }
+    }
+
+    private static void addId(Set<String> ids, String id, List<String> errors) {
+        if (!ids.add(id)) {
+            errors.add(id + ": 중복된 라우트 id");
+        }
+    }
+
+    private static boolean isName(String value) {
+        return value != null && NAME_PATTERN.matcher(value).matches();
+    }
+}
@@ -0,0 +1,40 @@
+package com.yoganavi.gateway.route;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cloud.gateway.route.Route;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 라우트 테이블 조회 및 다시 읽기 (/actuator/routetable)
+ * <p>
+ * POST 는 정의 파일을 다시 읽어 컴파일하고 결과와 컴파일 시간을 응답한다.
+ * 공개 포트에서는 SecurityConfig 가 조회만 허용하므로 gateway.actuator.write-enabled 가 true 일 때만 호출할 수 있다.
+ */
+@Endpoint(id = "routetable")
+public class RouteTableEndpoint {
+
+    public record TableInfo(long version, Instant compiledAt, double compileMillis, List<String> routes) {
+    }
+
+    private final RouteTableLocator locator;
+
+    public RouteTableEndpoint(RouteTableLocator locator) {
+        this.locator = locator;
+    }
+
+    @ReadOperation
+    public TableInfo table() {
+        CompiledRouteTable table = locator.current();
+        return new TableInfo(table.version(), table.compiledAt(), table.compileNanos() / 1_000_000.0,
+            table.routes().stream().map(Route::getId).toList());
+    }
+
+    @WriteOperation
+    public RouteTableLocator.ReloadResult reload() {
+        return locator.reload();
+    }
+}
@@ -0,0 +1,117 @@
+package com.yoganavi.gateway.route;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 컴파일된 라우트 테이블을 제공하는 RouteLocator
+ * <p>
+ * 다시 읽기는 새 테이블을 완전히 만든 뒤 참조 하나만 바꾸고 RefreshRoutesEvent 를 발행한다.
+ * CachingRouteLocator 도 라우트 목록을 통째로 교체하므로 요청 처리가 멈추지 않으며,
+ * 이미 라우트가 선택된 요청은 이전 테이블의 Route 와 필터로 끝까지 처리된다.
+ * 새 정의에 오류가 있으면 기존 테이블을 그대로 유지한다. 시작 시점의 오류는 기동을 중단시킨다.
+ */
+@Slf4j
+public class RouteTableLocator implements RouteLocator, ApplicationEventPublisherAware {
+
+    /**
+     * 다시 읽기 결과
+     *
+     * @param applied       새 테이블 적용 여부
+     * @param version       현재 적용된 테이블 버전
+     * @param routes        현재 적용된 라우트 수
+     * @param compileMillis 읽기부터 컴파일까지 걸린 시간. 실패한 경우도 포함
+     * @param errors        실패한 경우 오류 목록
+     */
+    public record ReloadResult(boolean applied, long version, int routes, double compileMillis,
+                               List<String> errors) {
+    }
+
+    private final RouteTableSource source;
+    private final RouteTableCompiler compiler;
+    private final AtomicReference<CompiledRouteTable> current = new AtomicReference<>();
+    private final Timer compileTimer;
+    private final Counter failureCounter;
+    private ApplicationEventPublisher publisher;
+
+    public RouteTableLocator(RouteTableSource source, RouteTableCompiler compiler, MeterRegistry meterRegistry) {
+        this.source = source;
+        this.compiler = compiler;
+        this.compileTimer = Timer.builder("gateway.routes.compile")
+            .description("라우트 정의 읽기부터 컴파일까지 걸린 시간")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("gateway.routes.reload.failures")
+            .description("정의 오류로 적용하지 못한 라우트 테이블 다시 읽기 수")
+            .register(meterRegistry);
+
+        // 시작 시점에는 오류를 그대로 던져 잘못된 정의로 기동하지 않도록 함
+        long startTime = System.nanoTime();
+        CompiledRouteTable table = compiler.compile(source.load(), 1);
+        long elapsed = System.nanoTime() - startTime;
+        compileTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        current.set(table);
+        log.info("gateway - 라우트 테이블 v{} 적용: {} ({}개 라우트, {}ms)",
+            table.version(), source.description(), table.routes().size(), toMillis(elapsed));
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Flux<Route> getRoutes() {
+        return Flux.fromIterable(current.get().routes());
+    }
+
+    public CompiledRouteTable current() {
+        return current.get();
+    }
+
+    /**
+     * 정의를 다시 읽어 컴파일하고, 성공하면 현재 테이블과 교체
+     */
+    public synchronized ReloadResult reload() {
+        CompiledRouteTable previous = current.get();
+        long startTime = System.nanoTime();
+        CompiledRouteTable table;
+        try {
+            table = compiler.compile(source.load(), previous.version() + 1);
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - startTime;
+            failureCounter.increment();
+            List<String> errors = e instanceof InvalidRouteTableException invalid
+                ? invalid.getErrors()
+                : List.of(String.valueOf(e.getMessage()));
+            log.error("gateway - 라우트 테이블 다시 읽기 실패, v{} 유지: {}", previous.version(), errors);
+            return new ReloadResult(false, previous.version(), previous.routes().size(), toMillis(elapsed),
+                errors);
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        compileTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        current.set(table);
+        if (publisher != null) {
+            publisher.publishEvent(new RefreshRoutesEvent(this));
+        }
+        log.info("gateway - 라우트 테이블 v{} 적용: {}개 라우트, 컴파일 {}ms",
+            table.version(), table.routes().size(), toMillis(elapsed));
+        return new ReloadResult(true, table.version(), table.routes().size(), toMillis(elapsed), List.of());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
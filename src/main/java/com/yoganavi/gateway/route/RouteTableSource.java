@@ -0,0 +1,74 @@
+package com.yoganavi.gateway.route;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.springframework.core.io.Resource;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 라우트 정의 파일을 읽어 RouteTableSpec 으로 변환
+ * <p>
+ * 키는 kebab-case 를 사용하며, 알 수 없는 키가 있으면 오타로 보고 거부한다.
+ */
+public class RouteTableSource {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+        .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Resource resource;
+
+    public RouteTableSource(Resource resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * @throws InvalidRouteTableException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public RouteTableSpec load() {
+        try (InputStream in = resource.getInputStream()) {
+            Object document = new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+            if (!(document instanceof Map)) {
+                throw new InvalidRouteTableException(List.of(description() + ": 최상위가 맵이 아님"));
+            }
+            return MAPPER.convertValue(document, RouteTableSpec.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(description() + " 읽기 실패", e);
+        } catch (RuntimeException e) {
+            if (e instanceof InvalidRouteTableException) {
+                throw e;
+            }
+            // YAML 문법 오류, 타입 불일치, 알 수 없는 키
+            throw new InvalidRouteTableException(List.of(description() + ": " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 파일 시스템에 있는 정의 파일이면 그 경로. classpath 안의 파일은 감시하지 않는다
+     */
+    public Optional<Path> watchablePath() {
+        if (!resource.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(resource.getFile().toPath().toAbsolutePath());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String description() {
+        return resource.getDescription();
+    }
+}
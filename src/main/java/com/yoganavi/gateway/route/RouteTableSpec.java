@@ -0,0 +1,121 @@
+package com.yoganavi.gateway.route;
+
+import com.yoganavi.gateway.cache.CacheKeys;
+import com.yoganavi.gateway.concurrency.OverloadController;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트 정의 파일(routes.yml)의 내용
+ * <p>
+ * 서비스별 경로 그룹과 적용할 필터를 선언만 하고, 실제 필터 인스턴스는 RouteTableCompiler 가 만든다.
+ */
+@Getter
+@Setter
+public class RouteTableSpec {
+
+    private List<RouteSpec> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class RouteSpec {
+
+        private String id;
+
+        // Eureka 서비스 id. lb://{service} 로 라우팅
+        private String service;
+
+        // false 면 JWT 인증 없이 접근 가능
+        private boolean auth = true;
+
+        private List<String> paths = new ArrayList<>();
+
+        // 비어 있으면 모든 메서드 허용
+        private List<String> methods = new ArrayList<>();
+
+        private RateLimitSpec rateLimit;
+
+        // 과부하 시 차단 순서 (LOW 부터 차단, CRITICAL 은 차단하지 않음)
+        private OverloadController.Priority priority = OverloadController.Priority.NORMAL;
+
+        // 요청 본문 상한 (1MB 형식). 비어 있으면 gateway.request-size.default-max-size
+        private String maxRequestSize;
+
+        // gzip/deflate 응답 압축
+        private boolean compression;
+
+        private CacheSpec cache;
+        private boolean coalesce;
+
+        // 요청을 합치는 범위. 인증된 요청은 업스트림이 공유를 허용한 응답만 다른 회원과 공유
+        private CacheKeys.Scope coalesceScope = CacheKeys.Scope.ROLE;
+
+        private boolean staleIfError;
+        private boolean concurrencyLimit;
+        private CircuitBreakerSpec circuitBreaker;
+        private boolean retry;
+
+        // 지연 시간, 가용성 목표. 없으면 SLO 를 추적하지 않음
+        private SloSpec slo;
+
+        // 같은 경로의 WebSocket 업그레이드 요청을 {id}-websocket 라우트로 분리
+        private boolean websocket;
+
+        // 같은 경로의 SSE 요청을 응답 타임아웃 없는 {id}-stream 라우트로 분리
+        private boolean eventStream;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimitSpec {
+
+        private long capacity;
+        private double refillPerSecond;
+
+        // role 별 한도 (TEACHER 등). 없는 role 은 위의 기본 한도
+        private Map<String, RoleLimitSpec> roles = new LinkedHashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class RoleLimitSpec {
+
+        private long capacity;
+        private double refillPerSecond;
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        // 30s, 5m 형식
+        private String ttl = "30s";
+        private CacheKeys.Scope scope = CacheKeys.Scope.ROLE;
+    }
+
+    @Getter
+    @Setter
+    public static class SloSpec {
+
+        // 이보다 오래 걸린 요청은 느린 요청 (300ms 형식)
+        private String latency = "500ms";
+        private double latencyTarget = 0.99;
+        private double availabilityTarget = 0.999;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerSpec {
+
+        // Resilience4j 인스턴스 이름. 비어 있으면 서비스 id 사용
+        private String name;
+
+        // forward:/fallback/{fallback}
+        private String fallback;
+    }
+}
@@ -0,0 +1,105 @@
+package com.yoganavi.gateway.route;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 정의 파일 변경 감시
+ * <p>
+ * 파일이 있는 디렉터리를 WatchService 로 감시하고, 변경이 debounce 동안 잠잠해지면 한 번만 다시 읽는다.
+ * 편집기의 임시 파일 교체나 Kubernetes ConfigMap 의 심볼릭 링크 교체(..data)도 변경으로 본다.
+ */
+@Slf4j
+public class RouteTableWatcher implements AutoCloseable {
+
+    private final RouteTableSource source;
+    private final Duration debounce;
+    private final RouteTableLocator locator;
+    private Path file;
+    private WatchService watchService;
+    private Thread thread;
+
+    public RouteTableWatcher(RouteTableSource source, Duration debounce, RouteTableLocator locator) {
+        this.source = source;
+        this.debounce = debounce;
+        this.locator = locator;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        file = source.watchablePath().orElse(null);
+        if (file == null) {
+            log.info("gateway - 파일 시스템 밖의 라우트 정의는 감시하지 않음: {}", source.description());
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        thread = new Thread(this::watch, "route-table-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("gateway - 라우트 정의 파일 감시 시작: {}", file);
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+
+                // 저장 도중의 연속된 이벤트는 잠잠해질 때까지 모아서 처리
+                while (true) {
+                    WatchKey next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    changed |= drain(next);
+                }
+
+                if (changed) {
+                    locator.reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+                continue;
+            }
+            String name = event.context().toString();
+            if (name.equals(file.getFileName().toString()) || name.startsWith("..")) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yoganavi.gateway.slo;
+
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 요청 처리 시간의 구간별 누적값
+ * <p>
+ * MetricFilter 가 요청 시작 시 exchange 속성으로 넣고, 인증 필터와 UpstreamTimingFilter 가 자기 구간의 시간을 더한다.
+ * 전체 시간에서 인증과 업스트림 시간을 뺀 나머지가 게이트웨이 자체 처리 시간이다.
+ * 한 요청 안에서는 순서대로 갱신되므로 원자적 연산 없이 가시성만 보장한다.
+ */
+public final class RequestTimings {
+
+    public static final String ATTR = RequestTimings.class.getName();
+
+    private volatile long authNanos;
+    private volatile long upstreamNanos;
+
+    public static RequestTimings start(ServerWebExchange exchange) {
+        RequestTimings timings = new RequestTimings();
+        exchange.getAttributes().put(ATTR, timings);
+        return timings;
+    }
+
+    /**
+     * 인증(토큰 검증, 폐기 확인) 시간 추가. MetricFilter 를 거치지 않은 요청이면 무시
+     */
+    public static void addAuth(ServerWebExchange exchange, long nanos) {
+        RequestTimings timings = exchange.getAttribute(ATTR);
+        if (timings != null) {
+            timings.authNanos += nanos;
+        }
+    }
+
+    /**
+     * 업스트림 구간(인스턴스 선택, 커넥션 획득, 응답 수신과 본문 전송) 시간 추가. 재시도하면 시도마다 더해짐
+     */
+    public static void addUpstream(ServerWebExchange exchange, long nanos) {
+        RequestTimings timings = exchange.getAttribute(ATTR);
+        if (timings != null) {
+            timings.upstreamNanos += nanos;
+        }
+    }
+
+    public long authNanos() {
+        return authNanos;
+    }
+
+    public long upstreamNanos() {
+        return upstreamNanos;
+    }
+
+    /**
+     * 전체 시간 중 인증과 업스트림을 뺀 게이트웨이 자체 처리 시간
+     */
+    public long gatewayNanos(long totalNanos) {
+        return Math.max(0L, totalNanos - authNanos - upstreamNanos);
+    }
+}
@@ -0,0 +1,27 @@
+package com.yoganavi.gateway.slo;
+
+import java.time.Duration;
+
+/**
+ * 라우트 SLO 정의
+ *
+ * @param latency            이보다 오래 걸린 요청은 느린 요청
+ * @param latencyTarget      latency 안에 끝나야 하는 요청 비율 (0.99 = 99%)
+ * @param availabilityTarget 5xx 없이 끝나야 하는 요청 비율 (0.999 = 99.9%)
+ */
+public record Slo(Duration latency, double latencyTarget, double availabilityTarget) {
+
+    /**
+     * 라우트 메타데이터에서 SLO 를 찾는 키
+     */
+    public static final String METADATA_KEY = Slo.class.getName();
+
+    public Slo {
+        if (latency == null || latency.isNegative() || latency.isZero()) {
+            throw new IllegalArgumentException("latency 는 0보다 커야 함: " + latency);
+        }
+        if (!(latencyTarget > 0 && latencyTarget < 1) || !(availabilityTarget > 0 && availabilityTarget < 1)) {
+            throw new IllegalArgumentException("목표 비율은 0과 1 사이여야 함");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.yoganavi.gateway.slo;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 라우트별 SLO 번 레이트와 구간별 지연 시간 (/actuator/slo, /actuator/slo/{route})
+ * <p>
+ * bottleneck 으로 느려진 쪽이 게이트웨이인지 백엔드인지 확인할 수 있다.
+ */
+@Component
+@Endpoint(id = "slo")
+public class SloEndpoint {
+
+    private final SloTracker sloTracker;
+
+    public SloEndpoint(SloTracker sloTracker) {
+        this.sloTracker = sloTracker;
+    }
+
+    @ReadOperation
+    public List<SloTracker.RouteReport> routes() {
+        return sloTracker.report();
+    }
+
+    /**
+     * @return 기록된 요청이 없는 라우트면 null (404)
+     */
+    @ReadOperation
+    public SloTracker.RouteReport route(@Selector String route) {
+        return sloTracker.report(route);
+    }
+}
@@ -0,0 +1,293 @@
+package com.yoganavi.gateway.slo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 라우트별 SLO 추적
+ * <p>
+ * 1분 단위 구간의 요청 수, 오류 수, 느린 요청 수를 긴 윈도우(기본 1시간)만큼 링으로 보관하고,
+ * 짧은 윈도우(기본 5분)의 구간별 지연 시간은 HdrHistogram 으로 보관한다.
+ * 기록은 LongAdder 와 Recorder 만 사용하므로 요청 처리 스레드끼리 잠금 없이 동작한다.
+ * 번 레이트(burn rate)는 윈도우의 실패 비율을 오류 예산(1 - 목표)으로 나눈 값이며,
+ * 짧은 윈도우와 긴 윈도우가 모두 임계값을 넘으면 경보 상태로 본다 (다중 윈도우 번 레이트 경보).
+ * 번 레이트는 gateway.slo.burn-rate{route, objective, window} 게이지로도 노출한다.
+ */
+@Slf4j
+@Component
+public class SloTracker {
+
+    private static final Duration SLICE = Duration.ofMinutes(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    public enum Phase {
+        // 게이트웨이 진입부터 응답 완료까지
+        TOTAL,
+        // 토큰 검증과 폐기 확인
+        AUTH,
+        // 인스턴스 선택부터 업스트림 응답 본문 전송까지
+        UPSTREAM,
+        // 나머지 게이트웨이 필터 처리
+        GATEWAY
+    }
+
+    /**
+     * @param availabilityBurnRate 오류 비율 / (1 - availabilityTarget)
+     * @param latencyBurnRate      느린 요청 비율 / (1 - latencyTarget)
+     */
+    public record WindowReport(Duration window, long requests, double errorRate, double slowRate,
+                               double availabilityBurnRate, double latencyBurnRate) {
+    }
+
+    public record PhaseLatency(double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * @param latency    짧은 윈도우에서 완료된 1분 구간의 구간별 지연 시간
+     * @param alerting   두 윈도우의 번 레이트가 모두 임계값을 넘은 목표가 있는지
+     * @param bottleneck p99 기준으로 게이트웨이(인증 포함)와 업스트림 중 더 오래 걸린 쪽. 데이터가 없으면 none
+     */
+    public record RouteReport(String route, Slo slo, WindowReport shortWindow, WindowReport longWindow,
+                              Map<Phase, PhaseLatency> latency, boolean alerting, String bottleneck) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int shortSlices;
+    private final int longSlices;
+    private final double burnRateThreshold;
+    private final Map<String, RouteWindow> routes = new ConcurrentHashMap<>();
+    private Disposable rotation;
+
+    public SloTracker(MeterRegistry meterRegistry,
+                      @Value("${gateway.slo.short-window:5m}") Duration shortWindow,
+                      @Value("${gateway.slo.long-window:1h}") Duration longWindow,
+                      @Value("${gateway.slo.burn-rate-threshold:14.4}") double burnRateThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.shortSlices = Math.max(1, (int) shortWindow.dividedBy(SLICE));
+        this.longSlices = Math.max(shortSlices, (int) longWindow.dividedBy(SLICE));
+        this.burnRateThreshold = burnRateThreshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        rotation = Flux.interval(SLICE, Schedulers.single())
+            .subscribe(tick -> routes.values().forEach(RouteWindow::rotate),
+                e -> log.error("gateway - SLO 구간 교체 중단", e));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rotation != null) {
+            rotation.dispose();
+        }
+    }
+
+    /**
+     * 완료된 요청 기록
+     *
+     * @param error 5xx 응답이거나 오류로 끝난 요청
+     */
+    public void record(String routeId, Slo slo, long totalNanos, long authNanos, long upstreamNanos,
+                       boolean error) {
+        RouteWindow window = routes.get(routeId);
+        if (window == null) {
+            window = routes.computeIfAbsent(routeId, id -> register(id, slo));
+        }
+        // 라우트 테이블이 바뀌어 SLO 가 달라진 경우 이후 요청부터 새 기준 적용
+        if (window.slo != slo) {
+            window.slo = slo;
+        }
+        window.record(totalNanos, authNanos, upstreamNanos, error);
+    }
+
+    public List<RouteReport> report() {
+        return routes.values().stream()
+            .map(RouteWindow::report)
+            .sorted(Comparator.comparing(RouteReport::route))
+            .toList();
+    }
+
+    public RouteReport report(String routeId) {
+        RouteWindow window = routes.get(routeId);
+        return window != null ? window.report() : null;
+    }
+
+    private RouteWindow register(String routeId, Slo slo) {
+        RouteWindow window = new RouteWindow(routeId, slo);
+        gauge(window, "availability", "short", w -> w.counts(shortSlices).availabilityBurnRate());
+        gauge(window, "availability", "long", w -> w.counts(longSlices).availabilityBurnRate());
+        gauge(window, "latency", "short", w -> w.counts(shortSlices).latencyBurnRate());
+        gauge(window, "latency", "long", w -> w.counts(longSlices).latencyBurnRate());
+        return window;
+    }
+
+    private void gauge(RouteWindow window, String objective, String windowName,
+                       ToDoubleFunction<RouteWindow> burnRate) {
+        Gauge.builder("gateway.slo.burn-rate", window, burnRate)
+            .description("라우트 SLO 오류 예산 소진 속도 (1 = 윈도우 동안 예산을 정확히 소진하는 속도)")
+            .tag("route", window.route)
+            .tag("objective", objective)
+            .tag("window", windowName)
+            .register(meterRegistry);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Slice {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private void reset() {
+            total.reset();
+            errors.reset();
+            slow.reset();
+        }
+    }
+
+    private final class RouteWindow {
+
+        private final String route;
+        private final Slice[] slices = new Slice[longSlices];
+        private final Recorder[] recorders = new Recorder[Phase.values().length];
+        // 짧은 윈도우의 완료된 구간 히스토그램. 구간 교체와 조회 사이에서만 잠금
+        private final Histogram[][] intervals = new Histogram[Phase.values().length][shortSlices];
+        private volatile int current;
+        private int intervalIndex;
+        private volatile Slo slo;
+
+        private RouteWindow(String route, Slo slo) {
+            this.route = route;
+            this.slo = slo;
+            for (int i = 0; i < slices.length; i++) {
+                slices[i] = new Slice();
+            }
+            for (int i = 0; i < recorders.length; i++) {
+                recorders[i] = new Recorder(SIGNIFICANT_DIGITS, true);
+            }
+        }
+
+        private void record(long totalNanos, long authNanos, long upstreamNanos, boolean error) {
+            Slice slice = slices[current];
+            slice.total.increment();
+            if (error) {
+                slice.errors.increment();
+            }
+            if (totalNanos > slo.latency().toNanos()) {
+                slice.slow.increment();
+            }
+
+            recorders[Phase.TOTAL.ordinal()].recordValue(toMicros(totalNanos));
+            recorders[Phase.AUTH.ordinal()].recordValue(toMicros(authNanos));
+            recorders[Phase.UPSTREAM.ordinal()].recordValue(toMicros(upstreamNanos));
+            recorders[Phase.GATEWAY.ordinal()].recordValue(toMicros(totalNanos - authNanos - upstreamNanos));
+        }
+
+        /**
+         * 1분마다 단일 스케줄러 스레드에서 호출
+         */
+        private void rotate() {
+            synchronized (this) {
+                for (Phase phase : Phase.values()) {
+                    intervals[phase.ordinal()][intervalIndex] = recorders[phase.ordinal()].getIntervalHistogram();
+                }
+                intervalIndex = (intervalIndex + 1) % shortSlices;
+            }
+            int next = (current + 1) % longSlices;
+            slices[next].reset();
+            current = next;
+        }
+
+        /**
+         * 현재 구간부터 거슬러 올라가 sliceCount 개 구간의 합계
+         */
+        private WindowReport counts(int sliceCount) {
+            long total = 0;
+            long errors = 0;
+            long slow = 0;
+            int index = current;
+            for (int i = 0; i < sliceCount; i++) {
+                Slice slice = slices[(index - i + longSlices) % longSlices];
+                total += slice.total.sum();
+                errors += slice.errors.sum();
+                slow += slice.slow.sum();
+            }
+
+            Slo currentSlo = slo;
+            double errorRate = total == 0 ? 0 : (double) errors / total;
+            double slowRate = total == 0 ? 0 : (double) slow / total;
+            return new WindowReport(SLICE.multipliedBy(sliceCount), total, errorRate, slowRate,
+                errorRate / (1 - currentSlo.availabilityTarget()),
+                slowRate / (1 - currentSlo.latencyTarget()));
+        }
+
+        private RouteReport report() {
+            WindowReport shortReport = counts(shortSlices);
+            WindowReport longReport = counts(longSlices);
+            boolean alerting = (shortReport.availabilityBurnRate() > burnRateThreshold
+                && longReport.availabilityBurnRate() > burnRateThreshold)
+                || (shortReport.latencyBurnRate() > burnRateThreshold
+                && longReport.latencyBurnRate() > burnRateThreshold);
+
+            Map<Phase, PhaseLatency> latency = new EnumMap<>(Phase.class);
+            Map<Phase, Histogram> merged = mergedIntervals();
+            merged.forEach((phase, histogram) -> latency.put(phase, new PhaseLatency(
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMaxValue()))));
+
+            return new RouteReport(route, slo, shortReport, longReport, latency, alerting, bottleneck(merged));
+        }
+
+        private synchronized Map<Phase, Histogram> mergedIntervals() {
+            Map<Phase, Histogram> merged = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+                for (Histogram interval : intervals[phase.ordinal()]) {
+                    if (interval != null) {
+                        histogram.add(interval);
+                    }
+                }
+                merged.put(phase, histogram);
+            }
+            return merged;
+        }
+
+        private String bottleneck(Map<Phase, Histogram> merged) {
+            if (merged.get(Phase.TOTAL).getTotalCount() == 0) {
+                return "none";
+            }
+            long gateway = merged.get(Phase.AUTH).getValueAtPercentile(99)
+                + merged.get(Phase.GATEWAY).getValueAtPercentile(99);
+            long upstream = merged.get(Phase.UPSTREAM).getValueAtPercentile(99);
+            return gateway > upstream ? "gateway" : "backend";
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.yoganavi.gateway.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완료된 span 을 로컬 파일에 한 줄에 하나씩 Zipkin v2 JSON 으로 기록
+ * <p>
+ * AccessLogWriter 와 같이 요청 처리 스레드는 버퍼에 넣기만 하고 파일 I/O 는 백그라운드 스레드가 한다.
+ * 버퍼가 가득 차면 span 을 버리고 gateway.tracing.spans.dropped 카운터를 올린다.
+ * 파일이 maxFileSize 를 넘으면 {file}.1 로 옮기고 새 파일에 이어 쓴다.
+ * 기록된 파일은 Zipkin UI 의 JSON 업로드나 jq 로 오프라인 분석할 수 있다.
+ */
+@Slf4j
+public class FileSpanHandler extends SpanHandler {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final Path file;
+    private final long maxFileSize;
+    private final ArrayBlockingQueue<String> buffer;
+    private final Counter droppedCounter;
+    private volatile boolean running;
+    private Thread writerThread;
+    private BufferedWriter writer;
+
+    public FileSpanHandler(MeterRegistry meterRegistry, Path file, long maxFileSize, int bufferSize) {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.droppedCounter = Counter.builder("gateway.tracing.spans.dropped")
+            .description("버퍼가 가득 차 버려진 span 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = open();
+        running = true;
+        writerThread = new Thread(this::drainLoop, "span-file-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("gateway - span 파일 기록 시작: {}", file.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 시 남은 span 기록
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (!buffer.isEmpty()) {
+            flush(batch);
+        }
+        writer.close();
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        // 샘플링된 span 만 여기까지 오므로 직렬화 비용은 샘플링 비율에 비례
+        if (cause == Cause.FINISHED && !buffer.offer(span.toString())) {
+            droppedCounter.increment();
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                String first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("gateway - span 파일 기록 실패", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<String> batch) throws IOException {
+        buffer.drainTo(batch, BATCH_SIZE - batch.size());
+        for (String line : batch) {
+            writer.write(line);
+            writer.newLine();
+        }
+        batch.clear();
+        writer.flush();
+        if (Files.size(file) > maxFileSize) {
+            rotate();
+        }
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        writer = open();
+    }
+
+    private BufferedWriter open() throws IOException {
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
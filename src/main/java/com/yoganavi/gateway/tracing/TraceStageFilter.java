@@ -0,0 +1,58 @@
+package com.yoganavi.gateway.tracing;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 필터 체인의 구간 경계를 TraceTimeline 에 기록하는 글로벌 필터
+ * <p>
+ * 라우트가 결정된 직후(체인의 첫 필터)와 ReactiveLoadBalancerClientFilter 앞뒤에 하나씩 둔다.
+ * 인스턴스 선택이 끝난 뒤에는 타임라인을 Reactor 컨텍스트에 넣어, 라우팅 필터의 HttpClient 콜백에서
+ * 커넥션 획득과 업스트림 응답 시각을 기록할 수 있게 한다.
+ */
+public class TraceStageFilter implements GlobalFilter, Ordered {
+
+    public enum Point {
+        ROUTE_MATCHED(Ordered.HIGHEST_PRECEDENCE),
+        LOAD_BALANCER_START(ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1),
+        LOAD_BALANCER_END(ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1);
+
+        private final int order;
+
+        Point(int order) {
+            this.order = order;
+        }
+    }
+
+    private final Point point;
+
+    public TraceStageFilter(Point point) {
+        this.point = point;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        switch (point) {
+            case ROUTE_MATCHED -> TraceTimeline.routeMatched(exchange);
+            case LOAD_BALANCER_START -> TraceTimeline.loadBalancerStarted(exchange);
+            case LOAD_BALANCER_END -> {
+                TraceTimeline timeline = exchange.getAttribute(TraceTimeline.ATTR);
+                if (timeline != null) {
+                    TraceTimeline.loadBalancerFinished(timeline);
+                    return chain.filter(exchange)
+                        .contextWrite(context -> context.put(TraceTimeline.class, timeline));
+                }
+            }
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return point.order;
+    }
+}
@@ -0,0 +1,191 @@
+package com.yoganavi.gateway.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.context.ContextView;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 샘플링된 요청의 게이트웨이 내부 구간 시각
+ * <p>
+ * TracingWebFilter 가 서버 span 이 샘플링된 요청에만 exchange 속성과 Reactor 컨텍스트로 넣으므로,
+ * 샘플링되지 않은 요청에서 각 기록 지점의 비용은 속성 조회 한 번이다.
+ * 구간은 System.nanoTime 으로 기록하고, 요청이 끝나면 서버 span 의 하위 span 으로 한꺼번에 내보낸다.
+ * 재시도로 같은 구간이 여러 번 기록되면 마지막 시도만 남는다.
+ */
+public final class TraceTimeline {
+
+    public static final String ATTR = TraceTimeline.class.getName();
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    public enum Stage {
+        // 요청 수신부터 라우트가 결정되어 게이트웨이 필터 체인이 시작될 때까지
+        ROUTE_MATCH("gateway.route-match"),
+        // 토큰 검증과 폐기 확인
+        AUTH("gateway.auth"),
+        // 로드 밸런서 인스턴스 선택
+        LB_CHOOSE("gateway.lb-choose"),
+        // 라우팅 시작부터 커넥션을 얻어 요청을 보내기 직전까지
+        CONNECTION_ACQUIRE("gateway.connection-acquire"),
+        // 요청 전송부터 업스트림 응답 헤더 수신까지
+        UPSTREAM_RESPONSE("gateway.upstream-response");
+
+        private final String spanName;
+
+        Stage(String spanName) {
+            this.spanName = spanName;
+        }
+    }
+
+    private final TraceContext parent;
+    private final long startNanos;
+    private final long startEpochMicros;
+    private final AtomicLongArray bounds = new AtomicLongArray(Stage.values().length * 2);
+    private volatile long loadBalancerStartNanos = UNSET;
+    private volatile long routingStartNanos = UNSET;
+    private volatile long requestSentNanos = UNSET;
+    private volatile SocketAddress upstreamAddress;
+
+    private TraceTimeline(TraceContext parent) {
+        this.parent = parent;
+        this.startNanos = System.nanoTime();
+        this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        for (int i = 0; i < bounds.length(); i++) {
+            bounds.set(i, UNSET);
+        }
+    }
+
+    /**
+     * 서버 span 이 샘플링된 경우에만 타임라인 생성
+     */
+    static TraceTimeline start(ServerWebExchange exchange) {
+        Span span = serverSpan(exchange);
+        if (span == null || !Boolean.TRUE.equals(span.context().sampled())) {
+            return null;
+        }
+        TraceTimeline timeline = new TraceTimeline(span.context());
+        exchange.getAttributes().put(ATTR, timeline);
+        return timeline;
+    }
+
+    /**
+     * HttpHandler 가 만든 서버 요청 observation 의 span. 관측이 꺼져 있으면 null
+     */
+    public static Span serverSpan(ServerWebExchange exchange) {
+        return ServerRequestObservationContext.findCurrent(exchange.getAttributes())
+            .map(context -> context.<TracingObservationHandler.TracingContext>get(
+                TracingObservationHandler.TracingContext.class))
+            .map(TracingObservationHandler.TracingContext::getSpan)
+            .orElse(null);
+    }
+
+    /**
+     * 접근 로그와 span 을 잇는 trace id. 샘플링되지 않은 요청도 id 는 있다
+     */
+    public static String traceId(ServerWebExchange exchange) {
+        Span span = serverSpan(exchange);
+        return span != null ? span.context().traceId() : null;
+    }
+
+    public static void record(ServerWebExchange exchange, Stage stage, long startNanos, long endNanos) {
+        TraceTimeline timeline = exchange.getAttribute(ATTR);
+        if (timeline != null) {
+            timeline.record(stage, startNanos, endNanos);
+        }
+    }
+
+    static void routeMatched(ServerWebExchange exchange) {
+        TraceTimeline timeline = exchange.getAttribute(ATTR);
+        if (timeline != null) {
+            timeline.record(Stage.ROUTE_MATCH, timeline.startNanos, System.nanoTime());
+        }
+    }
+
+    static void loadBalancerStarted(ServerWebExchange exchange) {
+        TraceTimeline timeline = exchange.getAttribute(ATTR);
+        if (timeline != null) {
+            timeline.loadBalancerStartNanos = System.nanoTime();
+        }
+    }
+
+    static void loadBalancerFinished(TraceTimeline timeline) {
+        long now = System.nanoTime();
+        if (timeline.loadBalancerStartNanos != UNSET) {
+            timeline.record(Stage.LB_CHOOSE, timeline.loadBalancerStartNanos, now);
+        }
+        timeline.routingStartNanos = now;
+    }
+
+    /**
+     * HttpClient.doOnRequest. 커넥션을 얻고 요청을 보내기 직전에 호출된다
+     */
+    public static void requestSent(HttpClientRequest request, Connection connection) {
+        TraceTimeline timeline = fromContext(request.currentContextView());
+        if (timeline == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (timeline.routingStartNanos != UNSET) {
+            timeline.record(Stage.CONNECTION_ACQUIRE, timeline.routingStartNanos, now);
+        }
+        timeline.requestSentNanos = now;
+        timeline.upstreamAddress = connection.channel().remoteAddress();
+    }
+
+    /**
+     * HttpClient.doOnResponse. 업스트림 응답 헤더를 받은 직후 호출된다
+     */
+    public static void responseReceived(HttpClientResponse response, Connection connection) {
+        TraceTimeline timeline = fromContext(response.currentContextView());
+        if (timeline != null && timeline.requestSentNanos != UNSET) {
+            timeline.record(Stage.UPSTREAM_RESPONSE, timeline.requestSentNanos, System.nanoTime());
+        }
+    }
+
+    private static TraceTimeline fromContext(ContextView context) {
+        return context.getOrDefault(TraceTimeline.class, null);
+    }
+
+    private void record(Stage stage, long startNanos, long endNanos) {
+        bounds.set(stage.ordinal() * 2, startNanos);
+        bounds.set(stage.ordinal() * 2 + 1, endNanos);
+    }
+
+    /**
+     * 기록된 구간을 서버 span 의 하위 span 으로 내보냄. 요청이 끝날 때 한 번 호출
+     */
+    void emit(Tracer tracer) {
+        for (Stage stage : Stage.values()) {
+            long start = bounds.get(stage.ordinal() * 2);
+            long end = bounds.get(stage.ordinal() * 2 + 1);
+            if (start == UNSET || end == UNSET) {
+                continue;
+            }
+            Span span = tracer.spanBuilder()
+                .setParent(parent)
+                .name(stage.spanName)
+                .startTimestamp(toEpochMicros(start), TimeUnit.MICROSECONDS)
+                .start();
+            if (stage == Stage.UPSTREAM_RESPONSE && upstreamAddress instanceof InetSocketAddress address) {
+                span.remoteIpAndPort(address.getHostString(), address.getPort());
+            }
+            span.end(toEpochMicros(end), TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private long toEpochMicros(long nanos) {
+        return startEpochMicros + TimeUnit.NANOSECONDS.toMicros(nanos - startNanos);
+    }
+}
@@ -0,0 +1,43 @@
+package com.yoganavi.gateway.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 샘플링된 요청에 TraceTimeline 을 붙이고, 요청이 끝나면 게이트웨이 구간 span 을 내보내는 필터
+ * <p>
+ * traceparent 추출(없으면 새 trace 생성)과 서버 span 은 WebFlux 의 서버 요청 observation 이,
+ * 다운스트림 traceparent 주입과 클라이언트 span 은 Spring Cloud Gateway observability 가 처리한다.
+ * 이 필터는 그 사이의 라우트 매칭, 인증, 인스턴스 선택, 커넥션 획득, 업스트림 응답 구간만 더한다.
+ * 보안 필터 체인 바로 뒤에서 시작하므로 라우트 매칭 구간에 보안 필터 시간은 들어가지 않는다.
+ */
+public class TracingWebFilter implements WebFilter, Ordered {
+
+    // 보안 필터 체인(WebFilterChainProxy, -100) 바로 뒤
+    private static final int ORDER = -99;
+
+    private final Tracer tracer;
+
+    public TracingWebFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        TraceTimeline timeline = TraceTimeline.start(exchange);
+        if (timeline == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+            .doFinally(signal -> timeline.emit(tracer));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
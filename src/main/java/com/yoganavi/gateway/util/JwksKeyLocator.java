@@ -0,0 +1,212 @@
+package com.yoganavi.gateway.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWKS(JSON Web Key Set)에서 kid 로 서명 검증 공개 키(RS256, ES256 등)를 찾는 키 로케이터
+ * <p>
+ * 키 집합은 jwt.jwks.location 의 로컬 파일(file:, classpath:)이나 user-service 의 JWKS URL(http, https)에서 읽어
+ * 메모리에 불변 스냅샷으로 보관한다. 요청 처리 중에는 스냅샷 조회만 하고 I/O 를 하지 않는다.
+ * 백그라운드에서 refresh-interval 마다 다시 읽으며, 갱신에 실패하면 기존 키를 계속 사용한다 (stale-while-revalidate).
+ * 알 수 없는 kid 가 들어오면 해당 토큰은 거절하고 백그라운드 갱신만 앞당긴다 (min-refresh-interval 에 한 번).
+ * 키 회전 시 user-service 는 새 키를 키 집합에 먼저 게시한 뒤 그 키로 서명을 시작해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.jwks.location")
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    /**
+     * @param algorithm JWK 의 alg. 있으면 토큰 헤더의 alg 와 같아야 함
+     */
+    private record KeyEntry(Key key, String algorithm) {
+    }
+
+    private final String location;
+    private final ResourceLoader resourceLoader;
+    private final WebClient webClient;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalNanos;
+    private final Duration fetchTimeout;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private final Counter unknownKeyCounter;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Map<String, KeyEntry> keys = Map.of();
+    private volatile long loadedAtMillis;
+    private volatile long lastRefreshNanos;
+    private Disposable schedule;
+
+    public JwksKeyLocator(@Value("${jwt.jwks.location}") String location,
+                          @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval,
+                          @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval,
+                          @Value("${jwt.jwks.fetch-timeout:3s}") Duration fetchTimeout,
+                          ResourceLoader resourceLoader,
+                          WebClient webClient,
+                          MeterRegistry meterRegistry) {
+        this.location = location;
+        this.resourceLoader = resourceLoader;
+        this.webClient = webClient;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.fetchTimeout = fetchTimeout;
+        this.refreshSuccess = Counter.builder("gateway.jwks.refresh")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.refreshFailure = Counter.builder("gateway.jwks.refresh")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        this.unknownKeyCounter = Counter.builder("gateway.jwks.unknown-kid")
+            .description("키 집합에 없는 kid 로 서명된 토큰 수")
+            .register(meterRegistry);
+        Gauge.builder("gateway.jwks.keys", this, locator -> locator.keys.size())
+            .register(meterRegistry);
+        Gauge.builder("gateway.jwks.age", this,
+                locator -> locator.loadedAtMillis == 0 ? 0
+                    : (System.currentTimeMillis() - locator.loadedAtMillis) / 1000.0)
+            .description("마지막으로 키 집합을 읽은 뒤 지난 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 시작 시에만 첫 로드를 기다림
+        boolean loaded = Boolean.TRUE.equals(refresh().block());
+        if (!loaded && !isRemote()) {
+            throw new IllegalStateException("JWKS 를 읽을 수 없음: " + location);
+        }
+        if (!loaded) {
+            log.warn("gateway - JWKS 첫 로드 실패, {} 마다 다시 시도: {}", refreshInterval, location);
+        }
+        schedule = Flux.interval(refreshInterval, refreshInterval)
+            .concatMap(tick -> refresh())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        KeyEntry entry = kid != null ? keys.get(kid) : null;
+        if (entry == null) {
+            unknownKey(kid);
+            return null;
+        }
+        if (entry.algorithm() != null && !entry.algorithm().equals(header.getAlgorithm())) {
+            log.warn("gateway - JWK alg 불일치: kid={}, jwk={}, token={}", kid, entry.algorithm(), header.getAlgorithm());
+            return null;
+        }
+        return entry.key();
+    }
+
+    /**
+     * 키 집합을 다시 읽어 교체. 이미 갱신 중이면 바로 false
+     *
+     * @return 새 키 집합으로 교체했는지
+     */
+    public Mono<Boolean> refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return Mono.just(false);
+        }
+        lastRefreshNanos = System.nanoTime();
+        return Mono.defer(this::fetch)
+            .timeout(fetchTimeout)
+            // JWK 파싱은 이벤트 루프 밖에서
+            .publishOn(Schedulers.boundedElastic())
+            .map(this::parse)
+            .map(parsed -> {
+                if (!parsed.keySet().equals(keys.keySet())) {
+                    log.info("gateway - JWKS 키 교체: {} -> {}", keys.keySet(), parsed.keySet());
+                }
+                keys = parsed;
+                loadedAtMillis = System.currentTimeMillis();
+                refreshSuccess.increment();
+                return true;
+            })
+            .onErrorResume(e -> {
+                refreshFailure.increment();
+                log.warn("gateway - JWKS 갱신 실패, 기존 키 {}개 유지: {}", keys.size(), e.toString());
+                return Mono.just(false);
+            })
+            .doFinally(signal -> refreshing.set(false));
+    }
+
+    private void unknownKey(String kid) {
+        unknownKeyCounter.increment();
+        log.debug("gateway - 알 수 없는 kid: {}", kid);
+        if (System.nanoTime() - lastRefreshNanos > minRefreshIntervalNanos) {
+            refresh().subscribe();
+        }
+    }
+
+    private Mono<String> fetch() {
+        if (isRemote()) {
+            return webClient.get()
+                .uri(location)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(String.class);
+        }
+        Resource resource = resourceLoader.getResource(location);
+        return Mono.fromCallable(() -> resource.getContentAsString(StandardCharsets.UTF_8))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Map<String, KeyEntry> parse(String json) {
+        JwkSet set = Jwks.setParser().build().parse(json);
+        Map<String, KeyEntry> parsed = new HashMap<>();
+        for (Jwk<?> jwk : set.getKeys()) {
+            // 서명 검증용 공개 키만 사용. kid 가 없으면 토큰 헤더로 찾을 수 없음
+            if (!(jwk instanceof PublicJwk<?> publicJwk) || jwk.getId() == null
+                || "enc".equals(publicJwk.getPublicKeyUse())) {
+                log.debug("gateway - JWK 제외: kid={}, kty={}", jwk.getId(), jwk.getType());
+                continue;
+            }
+            parsed.put(jwk.getId(), new KeyEntry(publicJwk.toKey(), jwk.getAlgorithm()));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("서명 검증에 사용할 공개 키가 없음");
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private boolean isRemote() {
+        return location.startsWith("http://") || location.startsWith("https://");
+    }
+}
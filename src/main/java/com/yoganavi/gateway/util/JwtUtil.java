@@ -2,11 +2,16 @@ package com.yoganavi.gateway.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +19,13 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
+/**
+ * 토큰 검증
+ * <p>
+ * jwt.jwks.location 이 설정되면 kid 로 찾은 공개 키(RS256, ES256 등)로 서명을 검증하고,
+ * jwt.secret 도 설정되어 있으면 전환 기간 동안 HMAC(HS*) 토큰도 함께 받는다.
+ * 둘 중 하나만 설정하면 해당 방식만 허용한다.
+ */
 @Slf4j
 @Component
 public class JwtUtil {
@@ -22,10 +34,37 @@ public class JwtUtil {
         VALID,
         INVALID,
         NOT_FOUND,
-        EXPIRED
+        EXPIRED,
+        REVOKED
     }
 
-    @Value("${jwt.secret}")
+    /**
+     * 한 번의 파싱으로 얻은 토큰 검증 결과
+     *
+     * @param status    검증 상태
+     * @param userId    id 클레임 (VALID 가 아니면 null)
+     * @param role      role 클레임 (VALID 가 아니면 null)
+     * @param expiresAt 만료 시각 (epoch millis, VALID 가 아니면 0)
+     * @param tokenId   jti 클레임 (없으면 null)
+     * @param issuedAt  발급 시각 (epoch millis, iat 클레임이 없으면 0)
+     */
+    public record TokenPrincipal(TokenStatus status, Integer userId, String role, long expiresAt,
+                                 String tokenId, long issuedAt) {
+
+        public static final TokenPrincipal NOT_FOUND =
+            new TokenPrincipal(TokenStatus.NOT_FOUND, null, null, 0L, null, 0L);
+        public static final TokenPrincipal INVALID =
+            new TokenPrincipal(TokenStatus.INVALID, null, null, 0L, null, 0L);
+        public static final TokenPrincipal EXPIRED =
+            new TokenPrincipal(TokenStatus.EXPIRED, null, null, 0L, null, 0L);
+
+        public boolean isValid() {
+            return status == TokenStatus.VALID;
+        }
+    }
+
+    // JWKS 만 사용하는 경우 비워 둠
+    @Value("${jwt.secret:}")
     private String jwtSecret;
 
     @Value("${jwt.access-token-expiration}")
@@ -34,45 +73,103 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int principalCacheMaxSize;
+
+    // jwt.jwks.location 이 없으면 null
+    @Autowired(required = false)
+    private JwksKeyLocator jwksKeyLocator;
+
     private SecretKey key;
+    private JwtParser parser;
+    private TokenPrincipalCache principalCache;
 
     @PostConstruct
     public void init() {
-        if (jwtSecret == null || jwtSecret.isEmpty()) {
-            throw new IllegalStateException("JWT secret이 설정되지 않음");
+        boolean hmac = jwtSecret != null && !jwtSecret.isEmpty();
+        if (!hmac && jwksKeyLocator == null) {
+            throw new IllegalStateException("JWT secret 과 jwt.jwks.location 이 모두 설정되지 않음");
         }
-        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        log.info("JWT 액세스 토큰 만료 시간: {}ms, 리프레시 토큰 만료 시간: {}ms",
-            this.accessTokenExpiration, this.refreshTokenExpiration);
+        this.key = hmac ? Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)) : null;
+        // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성
+        JwtParserBuilder builder = Jwts.parser();
+        if (jwksKeyLocator == null) {
+            builder.verifyWith(key);
+        } else {
+            // 키 조회는 메모리 스냅샷만 사용. alg 로 HMAC 키와 공개 키를 구분해 키 혼동을 막음
+            builder.keyLocator(header -> isHmac(header) ? key : jwksKeyLocator.locate(header));
+        }
+        this.parser = builder.build();
+        this.principalCache = new TokenPrincipalCache(principalCacheMaxSize);
+        log.info("JWT 액세스 토큰 만료 시간: {}ms, 리프레시 토큰 만료 시간: {}ms, principal 캐시 크기: {}",
+            this.accessTokenExpiration, this.refreshTokenExpiration, this.principalCacheMaxSize);
     }
 
-    public TokenStatus validateTokenStatus(String token) {
+    private static boolean isHmac(Header header) {
+        return header instanceof ProtectedHeader protectedHeader
+            && protectedHeader.getAlgorithm() != null
+            && protectedHeader.getAlgorithm().startsWith("HS");
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 상태, id, role, 만료 시각을 함께 반환
+     * <p>
+     * 검증에 성공한 토큰은 만료 시각까지 캐시되어, 같은 토큰이 다시 들어오면 서명 검증을 생략한다.
+     */
+    public TokenPrincipal verify(String token) {
         if (token == null) {
-            return TokenStatus.NOT_FOUND;
+            return TokenPrincipal.NOT_FOUND;
         }
 
+        long now = System.currentTimeMillis();
+        String cacheKey = principalCache.keyOf(token);
+        TokenPrincipal cached = principalCache.get(cacheKey, now);
+        if (cached != null) {
+            return cached.expiresAt() > now ? cached : TokenPrincipal.EXPIRED;
+        }
+
+        TokenPrincipal principal = parse(token, now);
+        if (principal.isValid()) {
+            principalCache.put(cacheKey, principal, now);
+        }
+        return principal;
+    }
+
+    public TokenStatus validateTokenStatus(String token) {
+        return verify(token).status();
+    }
+
+    private TokenPrincipal parse(String token, long now) {
         try {
             Claims claims = validateToken(token);
-            return isTokenExpired(claims) ? TokenStatus.EXPIRED : TokenStatus.VALID;
+            Date expiration = claims.getExpiration();
+            Integer userId = claims.get("id", Integer.class);
+            if (expiration == null || userId == null) {
+                log.error("gateway - 토큰 검증 실패 - 필수 클레임 누락 (exp: {}, id: {})", expiration, userId);
+                return TokenPrincipal.INVALID;
+            }
+            if (expiration.getTime() <= now) {
+                return TokenPrincipal.EXPIRED;
+            }
+            Date issuedAt = claims.getIssuedAt();
+            return new TokenPrincipal(TokenStatus.VALID, userId, claims.get("role", String.class),
+                expiration.getTime(), claims.getId(), issuedAt != null ? issuedAt.getTime() : 0L);
         } catch (ExpiredJwtException e) {
             log.warn("gateway - 토큰 검증 실패 - 토큰 만료: {}", e.getMessage());
-            return TokenStatus.EXPIRED;
+            return TokenPrincipal.EXPIRED;
         } catch (JwtException e) {
             log.error("gateway - 토큰 검증 실패 - JWT error: {}", e.getMessage());
-            return TokenStatus.INVALID;
+            return TokenPrincipal.INVALID;
         } catch (Exception e) {
             log.error("gateway - 토큰 검증 실패 - exception", e);
-            return TokenStatus.INVALID;
+            return TokenPrincipal.INVALID;
         }
     }
 
     // 토큰 검증
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+            return parser.parseSignedClaims(token)
                 .getPayload();
         } catch (JwtException e) {
             log.error("토큰 검증 실패: {}", e.getMessage());
@@ -0,0 +1,101 @@
+package com.yoganavi.gateway.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서명 검증이 끝난 토큰의 principal 캐시
+ * <p>
+ * - 토큰 원문 대신 SHA-256 digest 를 키로 사용
+ * - 각 항목은 토큰의 exp 시점에 만료
+ * - 최대 크기에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 일부 항목을 비움
+ */
+public class TokenPrincipalCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없음", e);
+        }
+    });
+
+    private static final Base64.Encoder KEY_ENCODER = Base64.getEncoder().withoutPadding();
+
+    private final ConcurrentHashMap<String, JwtUtil.TokenPrincipal> entries;
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TokenPrincipalCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 함: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * 토큰 원문으로부터 캐시 키 생성
+     */
+    public String keyOf(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return KEY_ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * 캐시된 principal 조회. 만료된 항목은 제거하고 만료 상태를 그대로 반환
+     *
+     * @return 캐시에 없으면 null
+     */
+    public JwtUtil.TokenPrincipal get(String key, long nowMillis) {
+        JwtUtil.TokenPrincipal principal = entries.get(key);
+        if (principal != null && principal.expiresAt() <= nowMillis) {
+            entries.remove(key, principal);
+        }
+        return principal;
+    }
+
+    public void put(String key, JwtUtil.TokenPrincipal principal, long nowMillis) {
+        if (principal.expiresAt() <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(nowMillis);
+        }
+        entries.put(key, principal);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    // 한 번에 한 스레드만 정리를 수행하고 나머지는 대기 없이 진행
+    private void evict(long nowMillis) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(principal -> principal.expiresAt() <= nowMillis);
+
+            // 만료되지 않은 토큰만으로 가득 찬 경우 임의의 10%를 비워 새 토큰이 들어올 자리를 확보
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<String> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.yoganavi.gateway.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게이트웨이 WebSocket 프록시(WebsocketRoutingFilter)가 사용하는 WebSocketService
+ * <p>
+ * - 노드당 동시 연결 수 상한. 넘으면 업그레이드하지 않고 503 으로 응답
+ * - 연결 수, 방향별 데이터 프레임 수 메트릭
+ * - 양방향 모두 데이터 프레임이 idleTimeout 동안 없으면 세션 종료
+ * - pingInterval 마다 클라이언트에 ping 을 보내 끊어진 연결(half-open)을 빨리 정리
+ * <p>
+ * 세션이 수만 개여도 타이머는 하나만 두고 1초마다 모든 세션을 점검한다.
+ */
+@Slf4j
+public class SignalingWebSocketService implements WebSocketService {
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final WebSocketService delegate;
+    private final int maxConnections;
+    private final long idleTimeoutNanos;
+    private final long pingIntervalNanos;
+    private final Meters meters;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Set<TrackedWebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+    private final Disposable sweeper;
+
+    public SignalingWebSocketService(WebSocketService delegate, int maxConnections, Duration idleTimeout,
+                                     Duration pingInterval, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxConnections = maxConnections;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.pingIntervalNanos = pingInterval.toNanos();
+        this.meters = new Meters(
+            Counter.builder("gateway.websocket.frames").tag("direction", "inbound")
+                .description("클라이언트에서 받은 WebSocket 데이터 프레임 수").register(meterRegistry),
+            Counter.builder("gateway.websocket.frames").tag("direction", "outbound")
+                .description("클라이언트로 보낸 WebSocket 데이터 프레임 수").register(meterRegistry),
+            Counter.builder("gateway.websocket.rejected")
+                .description("연결 수 상한으로 거절한 업그레이드 요청 수").register(meterRegistry),
+            Counter.builder("gateway.websocket.idle-closed")
+                .description("유휴 시간 초과로 닫은 세션 수").register(meterRegistry));
+        Gauge.builder("gateway.websocket.connections", connections, AtomicInteger::get)
+            .description("현재 WebSocket 연결 수")
+            .register(meterRegistry);
+        this.sweeper = Flux.interval(SWEEP_INTERVAL, Schedulers.single())
+            .subscribe(tick -> sweep());
+    }
+
+    @Override
+    public Mono<Void> handleRequest(ServerWebExchange exchange, WebSocketHandler handler) {
+        if (!tryReserve()) {
+            meters.rejected().increment();
+            log.warn("gateway - WebSocket 연결 수 상한({}) 도달, 업그레이드 거절", maxConnections);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "5");
+            return response.setComplete();
+        }
+
+        // 업그레이드에 실패해 핸들러가 호출되지 않은 경우에도 예약한 자리를 한 번만 반납
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                connections.decrementAndGet();
+            }
+        };
+        WebSocketHandler tracking = new WebSocketHandler() {
+            @Override
+            public List<String> getSubProtocols() {
+                return handler.getSubProtocols();
+            }
+
+            @Override
+            public Mono<Void> handle(WebSocketSession session) {
+                TrackedWebSocketSession tracked = new TrackedWebSocketSession(session, meters);
+                sessions.add(tracked);
+                return handler.handle(tracked)
+                    .doFinally(signal -> {
+                        sessions.remove(tracked);
+                        release.run();
+                    });
+            }
+        };
+        return delegate.handleRequest(exchange, tracking)
+            .doOnError(e -> release.run())
+            .doOnCancel(release);
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.dispose();
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = connections.get();
+            if (current >= maxConnections) {
+                return false;
+            }
+            if (connections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (TrackedWebSocketSession session : sessions) {
+            if (session.idleNanos(now) > idleTimeoutNanos) {
+                sessions.remove(session);
+                meters.idleClosed().increment();
+                session.close(CloseStatus.GOING_AWAY).subscribe(null, e -> log.debug("gateway - 유휴 세션 종료 실패", e));
+            } else if (pingIntervalNanos > 0 && session.sincePingNanos(now) > pingIntervalNanos) {
+                session.ping(now);
+            }
+        }
+    }
+
+    record Meters(Counter inbound, Counter outbound, Counter rejected, Counter idleClosed) {
+    }
+}
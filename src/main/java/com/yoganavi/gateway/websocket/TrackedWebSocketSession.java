@@ -0,0 +1,141 @@
+package com.yoganavi.gateway.websocket;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 클라이언트 쪽 WebSocket 세션 래퍼
+ * <p>
+ * 데이터 프레임(TEXT, BINARY) 수를 세고 마지막 데이터 프레임 시각을 기록하며, 보내는 스트림에 ping 같은 제어 프레임을 끼워 넣을 수 있다.
+ * 타이머는 세션마다 두지 않고 {@link SignalingWebSocketService} 의 공용 점검 작업이 {@link #idleNanos(long)} 를 보고 처리한다.
+ */
+class TrackedWebSocketSession implements WebSocketSession {
+
+    private static final byte[] PING_PAYLOAD = "gateway".getBytes(StandardCharsets.US_ASCII);
+
+    private final WebSocketSession delegate;
+    private final SignalingWebSocketService.Meters meters;
+    private final Sinks.Many<WebSocketMessage> control = Sinks.many().unicast().onBackpressureBuffer();
+    private volatile long lastActivityNanos;
+    private volatile long lastPingNanos;
+
+    TrackedWebSocketSession(WebSocketSession delegate, SignalingWebSocketService.Meters meters) {
+        this.delegate = delegate;
+        this.meters = meters;
+        this.lastActivityNanos = System.nanoTime();
+        this.lastPingNanos = lastActivityNanos;
+    }
+
+    @Override
+    public Flux<WebSocketMessage> receive() {
+        return delegate.receive()
+            .doOnNext(message -> {
+                // 게이트웨이 ping 에 대한 pong 은 활동으로 보지 않음
+                if (isData(message)) {
+                    meters.inbound().increment();
+                    lastActivityNanos = System.nanoTime();
+                }
+            });
+    }
+
+    @Override
+    public Mono<Void> send(Publisher<WebSocketMessage> messages) {
+        Flux<WebSocketMessage> data = Flux.from(messages)
+            .doOnNext(message -> {
+                if (isData(message)) {
+                    meters.outbound().increment();
+                    lastActivityNanos = System.nanoTime();
+                }
+            })
+            // 데이터 스트림이 끝나면 제어 프레임 스트림도 끝내 send 가 완료되게 함
+            .doFinally(signal -> control.tryEmitComplete());
+        return delegate.send(Flux.merge(data, control.asFlux()));
+    }
+
+    /**
+     * ping 프레임 전송 예약. 공용 점검 작업(단일 스레드)에서만 호출
+     */
+    void ping(long now) {
+        lastPingNanos = now;
+        control.tryEmitNext(delegate.pingMessage(factory -> factory.wrap(PING_PAYLOAD)));
+    }
+
+    long idleNanos(long now) {
+        return now - lastActivityNanos;
+    }
+
+    long sincePingNanos(long now) {
+        return now - lastPingNanos;
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public HandshakeInfo getHandshakeInfo() {
+        return delegate.getHandshakeInfo();
+    }
+
+    @Override
+    public DataBufferFactory bufferFactory() {
+        return delegate.bufferFactory();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public Mono<Void> close(CloseStatus status) {
+        return delegate.close(status);
+    }
+
+    @Override
+    public Mono<CloseStatus> closeStatus() {
+        return delegate.closeStatus();
+    }
+
+    @Override
+    public WebSocketMessage textMessage(String payload) {
+        return delegate.textMessage(payload);
+    }
+
+    @Override
+    public WebSocketMessage binaryMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.binaryMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pingMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pingMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pongMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pongMessage(payloadFactory);
+    }
+
+    private static boolean isData(WebSocketMessage message) {
+        return message.getType() == WebSocketMessage.Type.TEXT || message.getType() == WebSocketMessage.Type.BINARY;
+    }
+}
@@ -0,0 +1,154 @@
+package com.yoganavi.gateway.perf;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이 종단 간 부하 테스트
+ * <p>
+ * Eureka 대신 SimpleDiscoveryClient 로 네 개의 lb:// 서비스를 스텁 서버에 연결하고,
+ * routes.yml 의 라우트로 공개/JWT 보호 요청을 고정 요청률로 보낸다.
+ * 결과는 build/reports/perf 에 시나리오별 .hgrm 과 summary.properties 로 남는다.
+ * <p>
+ * 시스템 속성 (./gradlew perfTest -Pperf.rate=1000 처럼 전달)
+ * - perf.rate: 초당 요청 수 (기본 500)
+ * - perf.warmup / perf.duration: 워밍업, 측정 시간 (기본 10s / 30s)
+ * - perf.stub.latency / perf.stub.jitter: 스텁 응답 지연 (고정값 + 지수 분포 평균, 기본 5ms / 5ms)
+ * - perf.stub.error-rate: 스텁 503 비율 (기본 0)
+ * - perf.stub.body-size: 스텁 응답 크기 (기본 1024 bytes)
+ * - perf.baseline: 비교할 이전 summary.properties 경로
+ * - perf.max-regression: baseline 대비 허용할 최대 악화 비율 (예: 0.1, 지정 시 넘으면 실패)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+class GatewayLoadTest {
+
+    private static final List<String> SERVICES = List.of(
+        "user-service", "live-lecture-service", "recorded-lecture-service", "signaling-service");
+    private static final int MEMBERS = 1_000;
+
+    private static final Map<String, StubBackend> BACKENDS = new LinkedHashMap<>();
+
+    static {
+        Duration latency = duration("perf.stub.latency", "5ms");
+        Duration jitter = duration("perf.stub.jitter", "5ms");
+        double errorRate = Double.parseDouble(System.getProperty("perf.stub.error-rate", "0"));
+        int bodySize = Integer.getInteger("perf.stub.body-size", 1024);
+        for (String service : SERVICES) {
+            BACKENDS.put(service, StubBackend.start(service, latency, jitter, errorRate, bodySize));
+        }
+    }
+
+    @DynamicPropertySource
+    static void backends(DynamicPropertyRegistry registry) {
+        for (StubBackend backend : BACKENDS.values()) {
+            registry.add("spring.cloud.discovery.client.simple.instances." + backend.name() + "[0].uri",
+                backend::uri);
+        }
+    }
+
+    @AfterAll
+    static void stopBackends() {
+        BACKENDS.values().forEach(StubBackend::close);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void openLoopLoad() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("perf.rate", "500"));
+        Duration warmup = duration("perf.warmup", "10s");
+        Duration measure = duration("perf.duration", "30s");
+
+        String[] tokens = tokens();
+        List<OpenLoopLoadGenerator.Scenario> scenarios = List.of(
+            new OpenLoopLoadGenerator.Scenario("public", 2, "/user/register/check",
+                headers -> headers.set("X-Forwarded-For", randomIp())),
+            new OpenLoopLoadGenerator.Scenario("user-protected", 2, "/user/profile",
+                headers -> authorize(headers, tokens)),
+            new OpenLoopLoadGenerator.Scenario("live-lecture", 2, "/live-lecture/list",
+                headers -> authorize(headers, tokens)),
+            new OpenLoopLoadGenerator.Scenario("recorded-lecture", 2, "/recorded-lecture/list",
+                headers -> authorize(headers, tokens)),
+            new OpenLoopLoadGenerator.Scenario("signaling", 2, "/signaling/rooms",
+                headers -> authorize(headers, tokens)));
+
+        Map<String, OpenLoopLoadGenerator.Result> results;
+        try (OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator("http://127.0.0.1:" + port, scenarios)) {
+            generator.run(rate, warmup, false);
+            results = generator.run(rate, measure, true);
+        }
+
+        LatencyReport report = new LatencyReport(results);
+        System.out.printf("open loop %.0f req/s, %ds, stub %s%n", rate, measure.toSeconds(), BACKENDS.keySet());
+        report.print(System.out);
+        Path reportDir = Path.of(System.getProperty("perf.report-dir", "build/reports/perf"));
+        report.write(reportDir);
+        System.out.println("report: " + reportDir.toAbsolutePath());
+
+        String baseline = System.getProperty("perf.baseline");
+        if (baseline != null) {
+            double worst = report.compare(Path.of(baseline), System.out);
+            String maxRegression = System.getProperty("perf.max-regression");
+            if (maxRegression != null) {
+                assertThat(worst).as("baseline 대비 최대 지연 악화 비율").isLessThanOrEqualTo(Double.parseDouble(maxRegression));
+            }
+        }
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.count()).isPositive());
+    }
+
+    private String[] tokens() {
+        long now = System.currentTimeMillis();
+        String[] tokens = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            tokens[i] = "Bearer " + Jwts.builder()
+                .claim("id", i + 1)
+                .claim("role", i % 10 == 0 ? "TEACHER" : "STUDENT")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.HOURS.toMillis(2)))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        }
+        return tokens;
+    }
+
+    private static void authorize(HttpHeaders headers, String[] tokens) {
+        headers.set("Authorization", tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+
+    // 요청 한도가 클라이언트 IP 별로 적용되므로 여러 클라이언트에서 온 것처럼 분산
+    private static String randomIp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
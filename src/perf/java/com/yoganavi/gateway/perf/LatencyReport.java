@@ -0,0 +1,99 @@
+package com.yoganavi.gateway.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 결과 보고서
+ * <p>
+ * - 시나리오별 HdrHistogram 백분위 분포 (.hgrm, HdrHistogram plotter 로 그릴 수 있음)
+ * - p50/p99/p999 요약 (summary.properties). 다음 릴리스에서 perf.baseline 으로 지정하면 비교 결과를 출력한다
+ */
+final class LatencyReport {
+
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+    private static final String[] LABELS = {"p50", "p99", "p999"};
+
+    private final Map<String, OpenLoopLoadGenerator.Result> results;
+
+    LatencyReport(Map<String, OpenLoopLoadGenerator.Result> results) {
+        this.results = results;
+    }
+
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Properties summary = summary();
+        for (Map.Entry<String, OpenLoopLoadGenerator.Result> entry : results.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey() + ".hgrm")))) {
+                // 값은 µs 로 기록했으므로 ms 단위로 출력
+                entry.getValue().histogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        try (OutputStream out = Files.newOutputStream(dir.resolve("summary.properties"))) {
+            summary.store(out, "gateway perf summary (latency in microseconds)");
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-20s %10s %8s %8s %8s %10s %10s %10s%n",
+            "scenario", "requests", "2xx", "4xx", "5xx/err", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Map.Entry<String, OpenLoopLoadGenerator.Result> entry : results.entrySet()) {
+            OpenLoopLoadGenerator.Result result = entry.getValue();
+            Histogram histogram = result.histogram();
+            out.printf("%-20s %10d %8d %8d %8d %10.2f %10.2f %10.2f%n",
+                entry.getKey(), result.count(), result.statusClass(2), result.statusClass(4),
+                result.statusClass(5) + result.errors(),
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0);
+        }
+    }
+
+    /**
+     * 기준 결과와 백분위별 변화율 비교
+     *
+     * @return 가장 크게 나빠진 비율 (0.1 = 10% 느려짐)
+     */
+    double compare(Path baselineFile, PrintStream out) throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselineFile)) {
+            baseline.load(in);
+        }
+        Properties current = summary();
+        double worst = 0.0;
+        out.println("baseline 비교: " + baselineFile);
+        for (String key : current.stringPropertyNames().stream().sorted().toList()) {
+            String before = baseline.getProperty(key);
+            if (before == null || key.endsWith(".requests")) {
+                continue;
+            }
+            long previous = Long.parseLong(before);
+            long now = Long.parseLong(current.getProperty(key));
+            double change = previous == 0 ? 0.0 : (double) (now - previous) / previous;
+            worst = Math.max(worst, change);
+            out.printf("%-28s %10d -> %10d µs (%+.1f%%)%n", key, previous, now, change * 100);
+        }
+        return worst;
+    }
+
+    private Properties summary() {
+        Properties summary = new Properties();
+        for (Map.Entry<String, OpenLoopLoadGenerator.Result> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            summary.setProperty(entry.getKey() + ".requests", Long.toString(entry.getValue().count()));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                summary.setProperty(entry.getKey() + "." + LABELS[i],
+                    Long.toString(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,172 @@
+package com.yoganavi.gateway.perf;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 고정 요청률(open loop) 부하 생성기
+ * <p>
+ * i 번째 요청은 응답을 기다리지 않고 시작 시각 + i × 주기에 보낸다.
+ * 지연 시간은 실제 전송 시각이 아니라 예정 시각부터 잰다.
+ * 따라서 게이트웨이가 밀려 생성기가 늦어진 시간도 결과에 포함된다 (coordinated omission 보정).
+ */
+final class OpenLoopLoadGenerator implements AutoCloseable {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final HttpClient client;
+    private final ConnectionProvider connectionProvider;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    OpenLoopLoadGenerator(String baseUrl, List<Scenario> scenarios) {
+        this.connectionProvider = ConnectionProvider.builder("perf-client")
+            .maxConnections(4096)
+            .pendingAcquireMaxCount(-1)
+            .build();
+        this.client = HttpClient.create(connectionProvider)
+            .baseUrl(baseUrl)
+            .responseTimeout(Duration.ofSeconds(10));
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    /**
+     * duration 동안 초당 rate 건으로 요청을 보내고, 모든 응답을 받을 때까지 기다림
+     *
+     * @param record false 면 결과를 버림 (워밍업)
+     */
+    Map<String, Result> run(double rate, Duration duration, boolean record) throws InterruptedException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            results.put(scenario.name(), new Result());
+        }
+
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        AtomicInteger outstanding = new AtomicInteger();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = pick();
+            Result result = results.get(scenario.name());
+            outstanding.incrementAndGet();
+            client.headers(scenario.headers())
+                .get()
+                .uri(scenario.path())
+                .responseSingle((response, body) -> body.asByteArray()
+                    .defaultIfEmpty(EMPTY)
+                    .map(bytes -> response.status().code()))
+                .subscribe(
+                    status -> {
+                        if (record) {
+                            result.record(System.nanoTime() - intended, status);
+                        }
+                        outstanding.decrementAndGet();
+                    },
+                    error -> {
+                        if (record) {
+                            result.recordError(System.nanoTime() - intended);
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return results;
+    }
+
+    private Scenario pick() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            value -= scenario.weight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block();
+    }
+
+    /**
+     * @param name    보고서에 쓰일 이름
+     * @param weight  요청 비율 가중치
+     * @param path    요청 경로
+     * @param headers 요청마다 헤더를 채움 (토큰, X-Forwarded-For 등)
+     */
+    record Scenario(String name, int weight, String path, Consumer<HttpHeaders> headers) {
+    }
+
+    /**
+     * 시나리오별 지연 시간(µs) 히스토그램과 상태 코드 집계
+     */
+    static final class Result {
+
+        private final Recorder recorder = new Recorder(3);
+        // 0: 연결 오류/타임아웃, 1xx ~ 5xx: 상태 코드 첫 자리
+        private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+        private final AtomicLong count = new AtomicLong();
+        private Histogram histogram;
+
+        void record(long latencyNanos, int status) {
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            statusClasses.incrementAndGet(Math.min(5, status / 100));
+            count.incrementAndGet();
+        }
+
+        void recordError(long latencyNanos) {
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            statusClasses.incrementAndGet(0);
+            count.incrementAndGet();
+        }
+
+        synchronized Histogram histogram() {
+            if (histogram == null) {
+                histogram = recorder.getIntervalHistogram();
+            }
+            return histogram;
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        long statusClass(int hundreds) {
+            return statusClasses.get(hundreds);
+        }
+
+        long errors() {
+            return statusClasses.get(0);
+        }
+    }
+}
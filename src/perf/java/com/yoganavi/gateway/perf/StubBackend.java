@@ -0,0 +1,76 @@
+package com.yoganavi.gateway.perf;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * lb:// 서비스를 대신하는 Reactor Netty 스텁 서버
+ * <p>
+ * 모든 경로에 고정 크기 JSON 으로 응답한다.
+ * 응답 지연은 latency 에 평균 jitter 인 지수 분포 값을 더한 값이고, errorRate 비율만큼 503 으로 응답한다.
+ */
+final class StubBackend implements AutoCloseable {
+
+    private final String name;
+    private final DisposableServer server;
+
+    private StubBackend(String name, DisposableServer server) {
+        this.name = name;
+        this.server = server;
+    }
+
+    static StubBackend start(String name, Duration latency, Duration jitter, double errorRate, int bodySize) {
+        byte[] body = body(name, bodySize);
+        DisposableServer server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .handle((request, response) -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long delayNanos = latency.toNanos()
+                    + (long) (-Math.log(1 - random.nextDouble()) * jitter.toNanos());
+                boolean fail = random.nextDouble() < errorRate;
+                return Mono.delay(Duration.ofNanos(delayNanos))
+                    .then(Mono.defer(() -> {
+                        if (fail) {
+                            return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send();
+                        }
+                        return response
+                            .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendByteArray(Mono.just(body))
+                            .then();
+                    }));
+            })
+            .bindNow();
+        return new StubBackend(name, server);
+    }
+
+    String name() {
+        return name;
+    }
+
+    String uri() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private static byte[] body(String name, int size) {
+        StringBuilder sb = new StringBuilder(size + 32);
+        sb.append("{\"service\":\"").append(name).append("\",\"data\":\"");
+        while (sb.length() < size - 2) {
+            sb.append('x');
+        }
+        sb.append("\"}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package com.yoganavi.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheStoreTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void bytesFollowReplaceAndRemove() {
+        ResponseCacheStore store = new ResponseCacheStore("test", 1_000_000L, 100, meterRegistry);
+        CachedResponse small = response(1_000);
+        CachedResponse large = response(2_000);
+
+        store.put("a", small);
+        store.put("a", large);
+        assertThat(store.bytes()).isEqualTo(large.weight());
+
+        store.remove("a");
+        assertThat(store.bytes()).isZero();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void entriesAndBytesStayWithinLimits() {
+        ResponseCacheStore store = new ResponseCacheStore("test", 10_000L, 5, meterRegistry);
+
+        for (int i = 0; i < 50; i++) {
+            store.put("key-" + i, response(1_000));
+        }
+
+        assertThat(store.size()).as("entries").isLessThanOrEqualTo(5);
+        assertThat(store.bytes()).as("bytes").isLessThanOrEqualTo(10_000L);
+        assertThat(meterRegistry.counter("gateway.cache.evictions", "cache", "test").count()).isPositive();
+    }
+
+    @Test
+    void staleEntryIsRemovedOnGet() {
+        ResponseCacheStore store = new ResponseCacheStore("test", 1_000_000L, 100, meterRegistry);
+        CachedResponse response = response(1_000);
+        store.put("a", response);
+
+        assertThat(store.get("a", response.staleUntil() - 1)).isSameAs(response);
+        assertThat(store.get("a", response.staleUntil())).isNull();
+        assertThat(store.bytes()).isZero();
+    }
+
+    @Test
+    void responseLargerThanLimitIsNotStored() {
+        ResponseCacheStore store = new ResponseCacheStore("test", 1_000L, 100, meterRegistry);
+
+        store.put("a", response(2_000));
+
+        assertThat(store.size()).isZero();
+        assertThat(store.bytes()).isZero();
+    }
+
+    private static CachedResponse response(int bodyBytes) {
+        long now = System.currentTimeMillis();
+        return CachedResponse.of(HttpStatus.OK, new HttpHeaders(), new byte[bodyBytes], now, now + TTL_MILLIS,
+            now + TTL_MILLIS);
+    }
+}
@@ -0,0 +1,39 @@
+package com.yoganavi.gateway.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * prod 프로필(management.endpoints.enabled-by-default: false)에서도
+ * 노출 목록에 있는 게이트웨이 엔드포인트에 접근할 수 있고, 쓰기 작업은 공개 포트에서 막히는지 확인
+ */
+@ActiveProfiles("prod")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "eureka.client.enabled=false",
+    "logging.file.name=build/prod-actuator-test.log"
+})
+class ProdActuatorEndpointsTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"slo", "eventloop", "routetable"})
+    void gatewayEndpointIsReachable(String endpoint) {
+        webTestClient.get().uri("/actuator/" + endpoint)
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    void routeTableReloadIsRejectedOnPublicPort() {
+        webTestClient.post().uri("/actuator/routetable")
+            .exchange()
+            .expectStatus().is4xxClientError();
+    }
+}
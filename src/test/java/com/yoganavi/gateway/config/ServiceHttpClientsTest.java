@@ -0,0 +1,45 @@
+package com.yoganavi.gateway.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스별 HttpClient 에 spring.cloud.gateway.httpclient.* 설정과 HttpClientCustomizer 가 적용되는지 확인
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "spring.cloud.gateway.httpclient.compression=true",
+    "spring.cloud.gateway.httpclient.max-header-size=32KB"
+})
+class ServiceHttpClientsTest {
+
+    @Autowired
+    private ServiceHttpClients serviceHttpClients;
+
+    @Test
+    void serviceClientKeepsGatewayHttpClientSettings() {
+        HttpClient client = serviceHttpClients.forService("user-service");
+        HttpClientConfig config = client.configuration();
+
+        assertThat(config.isAcceptGzip()).as("compression").isTrue();
+        assertThat(config.decoder().maxHeaderSize()).as("max-header-size").isEqualTo(32 * 1024);
+        assertThat(config.headers().get("X-Customized")).as("HttpClientCustomizer").isEqualTo("true");
+    }
+
+    @TestConfiguration
+    static class CustomizerConfig {
+
+        @Bean
+        HttpClientCustomizer headerCustomizer() {
+            return httpClient -> httpClient.headers(headers -> headers.set("X-Customized", "true"));
+        }
+    }
+}
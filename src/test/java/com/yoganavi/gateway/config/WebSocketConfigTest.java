@@ -0,0 +1,32 @@
+package com.yoganavi.gateway.config;
+
+import com.yoganavi.gateway.websocket.SignalingWebSocketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이 자동 구성과 같은 이름(webSocketService)의 WebSocketService 가 있는 컨텍스트에서
+ * WebSocketConfig 가 빈을 새로 등록하지 않고 감싸는지 확인
+ */
+class WebSocketConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(WebSocketConfig.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withBean("webSocketService", WebSocketService.class, HandshakeWebSocketService::new);
+
+    @Test
+    void contextLoadsWithGatewayWebSocketServiceWrapped() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(WebSocketService.class);
+            assertThat(context.getBean("webSocketService")).isInstanceOf(SignalingWebSocketService.class);
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.yoganavi.gateway.filter;
+
+import com.yoganavi.gateway.constants.SecurityConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신원 헤더 주입 방식별 요청당 할당량 비교
+ * <p>
+ * 하위 필터, 라우팅, 로깅이 getHeaders()를 여러 번 호출하는 상황을 가정하고
+ * 이전 방식(getHeaders()마다 HttpHeaders 복사)과 현재 방식(mutate 시 한 번 복사)의 할당 바이트를 측정한다.
+ */
+class IdentityHeaderAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int HEADER_READS_PER_REQUEST = 8;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void mutateOnceAllocatesLessThanCopyingDecorator() {
+        long legacy = bytesPerRequest(IdentityHeaderAllocationTest::legacyDecorator);
+        long current = bytesPerRequest(
+            exchange -> JwtAuthenticationFilter.withIdentityHeaders(exchange, 42, "TEACHER"));
+
+        assertThat(current)
+            .as("identity header injection - before: %d B/req, after: %d B/req", legacy, current)
+            .isLessThan(legacy);
+    }
+
+    @Test
+    void spoofedIdentityHeadersAreReplaced() {
+        ServerWebExchange exchange = JwtAuthenticationFilter.withIdentityHeaders(
+            newExchange(), 42, "TEACHER");
+
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        assertThat(headers.get(SecurityConstants.MEMBER_ID_HEADER)).containsExactly("42");
+        assertThat(headers.get(SecurityConstants.ROLE_HEADER)).containsExactly("TEACHER");
+    }
+
+    @Test
+    void spoofedIdentityHeadersAreStrippedOnPublicPaths() {
+        ServerWebExchange exchange = JwtAuthenticationFilter.withoutIdentityHeaders(newExchange());
+
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        assertThat(headers.containsKey(SecurityConstants.MEMBER_ID_HEADER)).isFalse();
+        assertThat(headers.containsKey(SecurityConstants.ROLE_HEADER)).isFalse();
+    }
+
+    private long bytesPerRequest(UnaryOperator<ServerWebExchange> inject) {
+        ServerWebExchange[] exchanges = new ServerWebExchange[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            exchanges[i] = newExchange();
+        }
+        for (int i = 0; i < WARMUP; i++) {
+            readHeaders(inject.apply(exchanges[i]));
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (ServerWebExchange exchange : exchanges) {
+            readHeaders(inject.apply(exchange));
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return (after - before) / ITERATIONS;
+    }
+
+    private static int readHeaders(ServerWebExchange exchange) {
+        int size = 0;
+        for (int i = 0; i < HEADER_READS_PER_REQUEST; i++) {
+            size += exchange.getRequest().getHeaders().size();
+        }
+        return size;
+    }
+
+    private static MockServerWebExchange newExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/live-lecture/1")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+            .header(HttpHeaders.ACCEPT, "application/json")
+            .header(HttpHeaders.USER_AGENT, "YogaNavi/1.0")
+            .header(SecurityConstants.MEMBER_ID_HEADER, "1")
+            .header(SecurityConstants.ROLE_HEADER, "ADMIN"));
+    }
+
+    // 변경 전 JwtAuthenticationFilter 의 헤더 주입 방식
+    private static ServerWebExchange legacyDecorator(ServerWebExchange exchange) {
+        ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.putAll(super.getHeaders());
+                headers.add(SecurityConstants.MEMBER_ID_HEADER, "42");
+                headers.add(SecurityConstants.ROLE_HEADER, "TEACHER");
+                return headers;
+            }
+        };
+        return exchange.mutate().request(request).build();
+    }
+}
@@ -0,0 +1,275 @@
+package com.yoganavi.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.yoganavi.gateway.support.SimulationSupport.exponential;
+import static com.yoganavi.gateway.support.SimulationSupport.p99;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 시간 시뮬레이션으로 라운드 로빈과 PeakEwmaLoadBalancer 의 꼬리 지연 비교
+ * <p>
+ * 포아송 도착(open loop) 요청을 인스턴스 5대에 분배한다.
+ * 각 인스턴스는 동시에 4건을 처리하고 나머지는 큐에서 기다린다.
+ */
+class PeakEwmaLoadBalancerSimulationTest {
+
+    private static final String SERVICE_ID = "signaling-service";
+    private static final int REQUESTS = 20_000;
+    private static final double ARRIVALS_PER_SECOND = 600;
+    private static final int SLOTS_PER_INSTANCE = 4;
+    private static final long FAST_MEAN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_MEAN_NANOS = TimeUnit.MILLISECONDS.toNanos(80);
+    private static final long STALLED_MEAN_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long STALL_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static final PeakEwmaLoadBalancer.Settings SETTINGS = new PeakEwmaLoadBalancer.Settings(
+        TimeUnit.SECONDS.toNanos(10), 5, TimeUnit.SECONDS.toNanos(30), TimeUnit.MINUTES.toNanos(5), 50);
+
+    private final List<ServiceInstance> instances = List.of(
+        instance("a"), instance("b"), instance("c"), instance("d"), instance("slow"));
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider =
+        new StaticListableBeanFactory(Map.of("supplier", new FixedSupplier(instances)))
+            .getBeanProvider(ServiceInstanceListSupplier.class);
+
+    private long now;
+
+    @Test
+    void peakEwmaHasLowerTailLatencyThanRoundRobin() {
+        ServiceTime serviceTime = (instance, time) ->
+            instance.getInstanceId().equals("slow") ? SLOW_MEAN_NANOS : FAST_MEAN_NANOS;
+        long roundRobinP99 = simulate(new RoundRobinLoadBalancer(supplierProvider, SERVICE_ID), null,
+            serviceTime, Long.MAX_VALUE).p99();
+
+        now = 0;
+        PeakEwmaLoadBalancer peakEwma = new PeakEwmaLoadBalancer(SERVICE_ID, supplierProvider, SETTINGS,
+            new SimpleMeterRegistry(), () -> now);
+        long peakEwmaP99 = simulate(peakEwma, peakEwma, serviceTime, Long.MAX_VALUE).p99();
+
+        assertThat(peakEwmaP99)
+            .as("p99 - round robin: %d ms, peak EWMA: %d ms",
+                TimeUnit.NANOSECONDS.toMillis(roundRobinP99), TimeUnit.NANOSECONDS.toMillis(peakEwmaP99))
+            .isLessThan(roundRobinP99 / 2);
+    }
+
+    /**
+     * 인스턴스 a 가 처음 3초 동안 멈춰 요청이 타임아웃으로 취소된 뒤 회복하는 상황.
+     * 취소된 요청을 DISCARD 로 알리지 않으면 처리 중 요청 수가 남아 회복한 뒤에도 요청을 받지 못한다.
+     */
+    @Test
+    void cancelledRequestsDoNotStarveRecoveredInstance() {
+        ServiceInstance stalled = instances.get(0);
+        ServiceTime serviceTime = (instance, time) ->
+            instance.equals(stalled) && time < STALL_NANOS ? STALLED_MEAN_NANOS : FAST_MEAN_NANOS;
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(SERVICE_ID, supplierProvider, SETTINGS,
+            new SimpleMeterRegistry(), () -> now);
+
+        Result result = simulate(balancer, balancer, serviceTime, TIMEOUT_NANOS);
+
+        assertThat(result.lateShare(stalled))
+            .as("회복 후 %s 의 선택 비율", stalled.getInstanceId())
+            .isGreaterThan(0.1);
+    }
+
+    @Test
+    void failingInstanceIsEjected() {
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(SERVICE_ID, supplierProvider, SETTINGS,
+            new SimpleMeterRegistry(), () -> now);
+        ServiceInstance failing = instances.get(0);
+        balancer.choose(instances);
+        for (int i = 0; i < SETTINGS.failureThreshold(); i++) {
+            balancer.start(failing);
+            balancer.record(failing, TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(balancer.choose(instances).getServer()).isNotEqualTo(failing);
+        }
+
+        // 제외 시간이 지나면 다시 후보가 됨
+        now += SETTINGS.ejectionNanos() + 1;
+        boolean chosenAgain = false;
+        for (int i = 0; i < 1_000 && !chosenAgain; i++) {
+            chosenAgain = balancer.choose(instances).getServer().equals(failing);
+        }
+        assertThat(chosenAgain).isTrue();
+    }
+
+    /**
+     * 타임아웃이 지나면 게이트웨이처럼 요청을 취소하고 로드 밸런서에 DISCARD 로 알린다.
+     * 취소된 요청도 인스턴스는 끝까지 처리한다.
+     *
+     * @param feedback 응답 시간을 전달받을 로드 밸런서 (라운드 로빈은 null)
+     */
+    private Result simulate(ReactorServiceInstanceLoadBalancer balancer, PeakEwmaLoadBalancer feedback,
+                            ServiceTime serviceTime, long timeoutNanos) {
+        Random random = new Random(7);
+        Map<ServiceInstance, Server> servers = new HashMap<>();
+        for (ServiceInstance instance : instances) {
+            servers.put(instance, new Server(instance));
+        }
+
+        PriorityQueue<Event> events = new PriorityQueue<>();
+        long arrival = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            arrival += exponential(random, TimeUnit.SECONDS.toNanos(1) / ARRIVALS_PER_SECOND);
+            events.add(new Event(arrival, null, null));
+        }
+        long lateFrom = arrival / 2;
+
+        long[] latencies = new long[REQUESTS];
+        int completed = 0;
+        Map<ServiceInstance, Integer> lateChoices = new HashMap<>();
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            now = event.time();
+            if (event.request() == null) {
+                ServiceInstance instance = balancer.choose().block().getServer();
+                if (feedback != null) {
+                    feedback.start(instance);
+                }
+                if (now >= lateFrom) {
+                    lateChoices.merge(instance, 1, Integer::sum);
+                }
+                Request request = new Request(now, instance);
+                if (timeoutNanos != Long.MAX_VALUE) {
+                    events.add(new Event(now + timeoutNanos, null, request));
+                }
+                Server server = servers.get(instance);
+                if (server.busy < SLOTS_PER_INSTANCE) {
+                    server.busy++;
+                    events.add(new Event(now + server.serviceTime(random, serviceTime, now), server, request));
+                } else {
+                    server.queue.add(request);
+                }
+            } else if (event.server() == null) {
+                Request request = event.request();
+                if (!request.settled) {
+                    request.settled = true;
+                    latencies[completed++] = timeoutNanos;
+                    if (feedback != null) {
+                        feedback.onComplete(new CompletionContext<>(CompletionContext.Status.DISCARD,
+                            new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(request.instance)));
+                    }
+                }
+            } else {
+                Request request = event.request();
+                if (!request.settled) {
+                    request.settled = true;
+                    long latency = now - request.arrivedAt;
+                    latencies[completed++] = latency;
+                    if (feedback != null) {
+                        feedback.record(request.instance, latency, false);
+                    }
+                }
+                Server server = event.server();
+                Request next = server.queue.poll();
+                if (next != null) {
+                    events.add(new Event(now + server.serviceTime(random, serviceTime, now), server, next));
+                } else {
+                    server.busy--;
+                }
+            }
+        }
+
+        int lateTotal = lateChoices.values().stream().mapToInt(Integer::intValue).sum();
+        return new Result(p99(latencies, completed), lateChoices, lateTotal);
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, SERVICE_ID, id + ".local", 8080, false);
+    }
+
+    private record FixedSupplier(List<ServiceInstance> instances) implements ServiceInstanceListSupplier {
+
+        @Override
+        public String getServiceId() {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public Flux<List<ServiceInstance>> get() {
+            return Flux.just(instances);
+        }
+    }
+
+    /**
+     * 인스턴스와 시각별 평균 처리 시간 (ns)
+     */
+    private interface ServiceTime {
+
+        long meanNanos(ServiceInstance instance, long time);
+    }
+
+    /**
+     * @param lateChoices 시뮬레이션 후반부에 인스턴스별로 선택된 수
+     */
+    private record Result(long p99, Map<ServiceInstance, Integer> lateChoices, int lateTotal) {
+
+        double lateShare(ServiceInstance instance) {
+            return (double) lateChoices.getOrDefault(instance, 0) / lateTotal;
+        }
+    }
+
+    private static final class Request {
+
+        private final long arrivedAt;
+        private final ServiceInstance instance;
+        // 완료되었거나 타임아웃으로 취소됨
+        private boolean settled;
+
+        private Request(long arrivedAt, ServiceInstance instance) {
+            this.arrivedAt = arrivedAt;
+            this.instance = instance;
+        }
+    }
+
+    /**
+     * request 가 null 이면 도착, server 가 null 이면 타임아웃, 둘 다 있으면 처리 완료
+     */
+    private record Event(long time, Server server, Request request) implements Comparable<Event> {
+
+        @Override
+        public int compareTo(Event other) {
+            return Long.compare(time, other.time);
+        }
+    }
+
+    private static final class Server {
+
+        private final ServiceInstance instance;
+        private final Queue<Request> queue = new ArrayDeque<>();
+        private int busy;
+
+        private Server(ServiceInstance instance) {
+            this.instance = instance;
+        }
+
+        private long serviceTime(Random random, ServiceTime serviceTime, long now) {
+            return exponential(random, serviceTime.meanNanos(instance, now));
+        }
+    }
+}
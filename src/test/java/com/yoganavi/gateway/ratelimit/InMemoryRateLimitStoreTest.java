@@ -0,0 +1,49 @@
+package com.yoganavi.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final RateLimit LIMIT = RateLimit.of(2, 1);
+
+    @Test
+    void newKeysPastMaxKeysAreAllowedWithoutBuckets() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(store.acquire("ip:" + i, LIMIT, 0L)).isZero();
+        }
+
+        assertThat(store.size()).isEqualTo(100);
+    }
+
+    @Test
+    void sweepEvictsBucketsClosestToFullFirst() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(10);
+        // busy 는 토큰을 모두 써서 1초 뒤에야 가득 참
+        store.acquire("busy", LIMIT, 0L);
+        store.acquire("busy", LIMIT, 0L);
+        for (int i = 0; i < 9; i++) {
+            store.acquire("idle:" + i, LIMIT, 0L);
+        }
+
+        store.sweep(0L);
+
+        assertThat(store.size()).isLessThanOrEqualTo(9);
+        assertThat(store.acquire("busy", LIMIT, 0L)).isPositive();
+    }
+
+    @Test
+    void sweepRemovesFullBuckets() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(10);
+        store.acquire("a", LIMIT, 0L);
+
+        store.sweep(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(store.size()).isZero();
+    }
+}
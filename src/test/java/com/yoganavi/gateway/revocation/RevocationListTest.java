@@ -0,0 +1,131 @@
+package com.yoganavi.gateway.revocation;
+
+import com.yoganavi.gateway.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RevocationListTest {
+
+    private static final long LIFETIME_MILLIS = 60_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void revokedTokenIsRejectedUntilItExpires() {
+        RevocationList list = revocationList(Map.of(), 100);
+        long now = System.currentTimeMillis();
+        list.add(Revocation.ofToken("revoked", now + LIFETIME_MILLIS));
+
+        assertThat(list.isRevoked(token("revoked", 1, now))).isTrue();
+        assertThat(list.isRevoked(token("other", 1, now))).isFalse();
+
+        list.sweep(now + LIFETIME_MILLIS);
+
+        assertThat(list.tokenEntries()).isZero();
+        assertThat(list.isRevoked(token("revoked", 1, now))).isFalse();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        RevocationList list = revocationList(Map.of(), 100);
+
+        list.add(Revocation.ofToken("expired", System.currentTimeMillis() - 1));
+
+        assertThat(list.size()).isZero();
+    }
+
+    @Test
+    void memberCutoffIsComparedAtSecondPrecision() {
+        RevocationList list = revocationList(Map.of(), 100);
+        list.add(Revocation.ofMember(7, 10_500L));
+
+        // iat 는 초 단위이므로 같은 초(10_000)에 발급된 토큰은 폐기 이후 발급된 것으로 봄
+        assertThat(list.isRevoked(token(null, 7, 10_000L))).isFalse();
+        assertThat(list.isRevoked(token(null, 7, 9_000L))).isTrue();
+        assertThat(list.isRevoked(token(null, 7, 0L))).as("iat 없음").isTrue();
+        assertThat(list.isRevoked(token(null, 8, 0L))).as("다른 회원").isFalse();
+    }
+
+    @Test
+    void memberEntryIsSweptAfterAccessTokenLifetime() {
+        RevocationList list = revocationList(Map.of(), 100);
+        list.add(Revocation.ofMember(7, 10_500L));
+
+        list.sweep(10_500L + LIFETIME_MILLIS - 1);
+        assertThat(list.memberEntries()).isOne();
+
+        list.sweep(10_500L + LIFETIME_MILLIS);
+        assertThat(list.memberEntries()).isZero();
+    }
+
+    @Test
+    void sweepRebuildKeepsRemainingTokens() {
+        RevocationList list = revocationList(Map.of(), 100);
+        long now = System.currentTimeMillis();
+        list.add(Revocation.ofToken("short", now + 1_000L));
+        list.add(Revocation.ofToken("long", now + LIFETIME_MILLIS));
+
+        list.sweep(now + 1_000L);
+
+        assertThat(list.tokenEntries()).isOne();
+        assertThat(list.isRevoked(token("short", 1, now))).isFalse();
+        assertThat(list.isRevoked(token("long", 1, now))).isTrue();
+    }
+
+    @Test
+    void addThrowsWhenFullOfUnexpiredEntries() {
+        RevocationList list = revocationList(Map.of(), 2);
+        long now = System.currentTimeMillis();
+        list.add(Revocation.ofToken("a", now + LIFETIME_MILLIS));
+        list.add(Revocation.ofMember(1, now));
+
+        assertThatThrownBy(() -> list.add(Revocation.ofToken("c", now + LIFETIME_MILLIS)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void feedStaysSubscribedWhenListIsFull() throws InterruptedException {
+        Sinks.Many<Revocation> sink = Sinks.many().unicast().onBackpressureBuffer();
+        RevocationFeed feed = sink::asFlux;
+        RevocationList list = revocationList(Map.of("feed", feed), 2);
+        list.start();
+        try {
+            long now = System.currentTimeMillis();
+            sink.tryEmitNext(Revocation.ofToken("a", now + 100L));
+            sink.tryEmitNext(Revocation.ofToken("b", now + 100L));
+            sink.tryEmitNext(Revocation.ofToken("dropped", now + LIFETIME_MILLIS));
+
+            assertThat(list.tokenEntries()).isEqualTo(2);
+            assertThat(meterRegistry.counter("gateway.revocation.dropped").count()).isEqualTo(1.0);
+
+            // 앞선 항목이 만료되면 다음 피드 항목을 추가할 때 정리되어 반영됨
+            Thread.sleep(150L);
+            sink.tryEmitNext(Revocation.ofToken("later", System.currentTimeMillis() + LIFETIME_MILLIS));
+
+            assertThat(list.isRevoked(token("later", 1, now))).isTrue();
+            assertThat(list.isRevoked(token("dropped", 1, now))).isFalse();
+        } finally {
+            list.stop();
+        }
+    }
+
+    private RevocationList revocationList(Map<String, RevocationFeed> feeds, int maxEntries) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        feeds.forEach(beanFactory::addBean);
+        return new RevocationList(beanFactory.getBeanProvider(RevocationFeed.class), meterRegistry,
+            maxEntries, Duration.ofHours(1), LIFETIME_MILLIS);
+    }
+
+    private static JwtUtil.TokenPrincipal token(String tokenId, int userId, long issuedAt) {
+        return new JwtUtil.TokenPrincipal(JwtUtil.TokenStatus.VALID, userId, "STUDENT",
+            issuedAt + LIFETIME_MILLIS, tokenId, issuedAt);
+    }
+}
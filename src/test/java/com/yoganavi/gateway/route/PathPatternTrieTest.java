@@ -0,0 +1,79 @@
+package com.yoganavi.gateway.route;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathPatternTrieTest {
+
+    private final PathPatternTrie<String> trie = new PathPatternTrie<String>()
+        .add("/user/login", "login")
+        .add("/user/register/**", "register")
+        .add("/user/**", "user")
+        .add("/settings/", "settings");
+
+    @Test
+    void exactPatternMatchesOnlyItself() {
+        assertThat(trie.match("/user/login")).isEqualTo("login");
+        assertThat(trie.match("/user/loginx")).isEqualTo("user");
+        assertThat(trie.match("/user/login/extra")).isEqualTo("user");
+    }
+
+    @Test
+    void anySuffixPatternMatchesItselfAndDescendants() {
+        assertThat(trie.match("/user/register")).isEqualTo("register");
+        assertThat(trie.match("/user/register/step/1")).isEqualTo("register");
+        assertThat(trie.match("/user")).isEqualTo("user");
+    }
+
+    @Test
+    void prefixPatternDoesNotMatchLongerSegment() {
+        assertThat(trie.match("/user/registered")).isEqualTo("user");
+        assertThat(trie.match("/users")).isNull();
+    }
+
+    @Test
+    void trailingSlashIsIgnored() {
+        assertThat(trie.match("/user/login/")).isEqualTo("login");
+        assertThat(trie.match("/user/register/")).isEqualTo("register");
+        assertThat(trie.match("/user/")).isEqualTo("user");
+        // 패턴 끝의 '/' 도 무시
+        assertThat(trie.match("/settings")).isEqualTo("settings");
+        assertThat(trie.match("/settings/")).isEqualTo("settings");
+    }
+
+    @Test
+    void rootAndEmptyPaths() {
+        assertThat(trie.match("/")).isNull();
+        assertThat(trie.match("")).isNull();
+        assertThat(trie.match(null)).isNull();
+
+        PathPatternTrie<String> withRoot = new PathPatternTrie<String>()
+            .add("/", "root")
+            .add("/user/**", "user");
+        assertThat(withRoot.match("/")).isEqualTo("root");
+        assertThat(withRoot.match("/other")).isNull();
+
+        PathPatternTrie<String> catchAll = new PathPatternTrie<String>()
+            .add("/**", "all")
+            .add("/user/**", "user");
+        assertThat(catchAll.match("/")).isEqualTo("all");
+        assertThat(catchAll.match("/other")).isEqualTo("all");
+        assertThat(catchAll.match("/user/1")).isEqualTo("user");
+    }
+
+    @Test
+    void rejectsUnsupportedAndDuplicatePatterns() {
+        assertThatThrownBy(() -> new PathPatternTrie<String>().add("user/**", "x"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie<String>().add("/user/*/detail", "x"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie<String>().add("/user/{id}", "x"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie<String>().add("/user/**", "a").add("/user/**", "b"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie<String>().add("/user", "a").add("/user/", "b"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.yoganavi.gateway.route;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteIndexTest {
+
+    // routes.yml 의 user-service 라우트와 같은 구성
+    private final RouteIndex index = RouteIndex.builder()
+        .publicRoute("user-public", "/user/login", "/user/register/**", "/user/find-password/**")
+        .protectedRoute("user-protected", "/user/**", "/settings/**", "/members/**")
+        .build();
+
+    @Test
+    void publicPatternWinsWhenMoreSpecificThanProtectedPrefix() {
+        assertThat(routeOf("/user/login")).isEqualTo("user-public");
+        assertThat(routeOf("/user/register/email")).isEqualTo("user-public");
+        assertThat(routeOf("/user/find-password")).isEqualTo("user-public");
+    }
+
+    @Test
+    void protectedPrefixCoversEverythingElse() {
+        assertThat(routeOf("/user/registered")).isEqualTo("user-protected");
+        assertThat(routeOf("/user/login-history")).isEqualTo("user-protected");
+        assertThat(routeOf("/user")).isEqualTo("user-protected");
+        assertThat(routeOf("/members/42/")).isEqualTo("user-protected");
+    }
+
+    @Test
+    void protectedExactPatternWinsInsidePublicPrefix() {
+        RouteIndex nested = RouteIndex.builder()
+            .publicRoute("public", "/user/register/**")
+            .protectedRoute("admin", "/user/register/admin")
+            .build();
+
+        assertThat(nested.match(exchange("/user/register/admin")).authRequired()).isTrue();
+        assertThat(nested.match(exchange("/user/register/email")).authRequired()).isFalse();
+    }
+
+    @Test
+    void unknownPathHasNoRoute() {
+        ServerWebExchange exchange = exchange("/unknown");
+
+        assertThat(index.match(exchange)).isNull();
+        assertThat(RouteIndex.currentMatch(exchange)).isNull();
+        assertThat(index.match(exchange("/"))).isNull();
+    }
+
+    @Test
+    void predicatesShareOneLookupPerExchange() {
+        ServerWebExchange exchange = exchange("/user/login");
+
+        assertThat(index.predicate("user-protected").test(exchange)).isFalse();
+        assertThat(index.predicate("user-public").test(exchange)).isTrue();
+        assertThat(RouteIndex.currentMatch(exchange)).isSameAs(index.entries().get("user-public"));
+    }
+
+    @Test
+    void changedPathIsLookedUpAgain() {
+        ServerWebExchange exchange = exchange("/user/login");
+        index.match(exchange);
+
+        ServerWebExchange forwarded = exchange.mutate()
+            .request(exchange.getRequest().mutate().path("/settings/profile").build())
+            .build();
+
+        assertThat(RouteIndex.currentMatch(forwarded)).as("경로가 바뀌면 저장된 결과를 쓰지 않음").isNull();
+        assertThat(index.match(forwarded).routeId()).isEqualTo("user-protected");
+    }
+
+    @Test
+    void rejectsDuplicateAndUnknownRouteIds() {
+        assertThatThrownBy(() -> RouteIndex.builder()
+            .publicRoute("a", "/a")
+            .protectedRoute("a", "/b"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteIndex.builder().publicRoute("a"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.predicate("missing"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String routeOf(String path) {
+        RouteIndex.Entry entry = index.match(exchange(path));
+        return entry != null ? entry.routeId() : null;
+    }
+
+    private static ServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
@@ -0,0 +1,28 @@
+package com.yoganavi.gateway.support;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 가상 시간 시뮬레이션 테스트 공용 함수
+ */
+public final class SimulationSupport {
+
+    private SimulationSupport() {
+    }
+
+    /**
+     * 평균이 meanNanos 인 지수 분포 값. 포아송 도착 간격, 처리 시간에 사용
+     */
+    public static long exponential(Random random, double meanNanos) {
+        return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+    }
+
+    /**
+     * 앞에서 count 개 값의 p99. 배열 앞부분을 정렬함
+     */
+    public static long p99(long[] values, int count) {
+        Arrays.sort(values, 0, count);
+        return values[(int) (count * 0.99)];
+    }
+}